@@ -1,30 +1,41 @@
 package org.bootstrapbugz.api.admin.controller;
 
+import java.io.InputStream;
 import java.util.List;
 
 import javax.validation.Valid;
 
 import org.bootstrapbugz.api.admin.request.AdminRequest;
 import org.bootstrapbugz.api.admin.request.ChangeRoleRequest;
+import org.bootstrapbugz.api.admin.request.UserImportFormat;
+import org.bootstrapbugz.api.admin.response.CacheStatisticsResponse;
+import org.bootstrapbugz.api.admin.response.UserImportResponse;
 import org.bootstrapbugz.api.admin.service.AdminService;
+import org.bootstrapbugz.api.admin.service.UserImportService;
 import org.bootstrapbugz.api.shared.constants.Path;
 import org.bootstrapbugz.api.user.response.UserResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 @RequestMapping(Path.ADMIN + "/users")
 public class AdminController {
   private final AdminService adminService;
+  private final UserImportService userImportService;
 
-  public AdminController(AdminService adminService) {
+  public AdminController(AdminService adminService, UserImportService userImportService) {
     this.adminService = adminService;
+    this.userImportService = userImportService;
   }
 
   @GetMapping
@@ -33,6 +44,29 @@ public class AdminController {
     return ResponseEntity.ok(adminService.findAllUsers());
   }
 
+  @GetMapping("/search")
+  @PreAuthorize("hasAuthority('ADMIN')")
+  public ResponseEntity<List<UserResponse>> searchUsers(
+      @RequestParam String query,
+      @RequestParam(defaultValue = "0") long after,
+      @RequestParam(defaultValue = "20") int limit) {
+    return ResponseEntity.ok(adminService.searchUsers(query, after, limit));
+  }
+
+  @GetMapping("/cache-statistics")
+  @PreAuthorize("hasAuthority('ADMIN')")
+  public ResponseEntity<List<CacheStatisticsResponse>> findCacheStatistics() {
+    return ResponseEntity.ok(adminService.findCacheStatistics());
+  }
+
+  @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+  @PreAuthorize("hasAuthority('ADMIN')")
+  public ResponseEntity<UserImportResponse> importUsers(
+      @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, InputStream body) {
+    return ResponseEntity.ok(
+        userImportService.importUsers(body, UserImportFormat.fromContentType(contentType)));
+  }
+
   @PutMapping("/role")
   @PreAuthorize("hasAuthority('ADMIN')")
   public ResponseEntity<Void> changeRole(@Valid @RequestBody ChangeRoleRequest changeRoleRequest) {
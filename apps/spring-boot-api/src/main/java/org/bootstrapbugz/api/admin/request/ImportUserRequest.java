@@ -0,0 +1,36 @@
+package org.bootstrapbugz.api.admin.request;
+
+import javax.validation.constraints.Email;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Pattern;
+
+import org.bootstrapbugz.api.shared.constants.Regex;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImportUserRequest {
+  @Pattern(regexp = Regex.FIRST_AND_LAST_NAME, message = "{firstName.invalid}")
+  private String firstName;
+
+  @Pattern(regexp = Regex.FIRST_AND_LAST_NAME, message = "{lastName.invalid}")
+  private String lastName;
+
+  @NotEmpty(message = "{username.invalid}")
+  @Pattern(regexp = Regex.USERNAME, message = "{username.invalid}")
+  private String username;
+
+  @NotEmpty(message = "{email.invalid}")
+  @Email(message = "{email.invalid}")
+  private String email;
+
+  @NotEmpty(message = "{password.invalid}")
+  @Pattern(regexp = Regex.PASSWORD, message = "{password.invalid}")
+  private String password;
+}
@@ -0,0 +1,25 @@
+package org.bootstrapbugz.api.admin.request;
+
+import org.springframework.http.MediaType;
+
+public enum UserImportFormat {
+  CSV("text/csv"),
+  NDJSON("application/x-ndjson");
+
+  private final String contentType;
+
+  UserImportFormat(String contentType) {
+    this.contentType = contentType;
+  }
+
+  public String getContentType() {
+    return contentType;
+  }
+
+  public static UserImportFormat fromContentType(String contentType) {
+    final var mediaType = MediaType.parseMediaType(contentType);
+    for (var format : values())
+      if (MediaType.parseMediaType(format.contentType).isCompatibleWith(mediaType)) return format;
+    throw new IllegalArgumentException("Unsupported import format: " + contentType);
+  }
+}
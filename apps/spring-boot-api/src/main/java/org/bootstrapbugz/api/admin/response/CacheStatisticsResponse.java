@@ -0,0 +1,20 @@
+package org.bootstrapbugz.api.admin.response;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class CacheStatisticsResponse {
+  private String region;
+  private long hitCount;
+  private long missCount;
+  private long putCount;
+  private long elementCountInMemory;
+}
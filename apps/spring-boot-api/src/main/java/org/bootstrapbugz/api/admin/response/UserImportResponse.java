@@ -0,0 +1,35 @@
+package org.bootstrapbugz.api.admin.response;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+@Getter
+public class UserImportResponse {
+  private int imported;
+  private final List<RowError> errors = new ArrayList<>();
+
+  public void addImported(int count) {
+    imported += count;
+  }
+
+  public void reject(long row, String field, String message) {
+    errors.add(new RowError(row, field, message));
+  }
+
+  public long getFailed() {
+    return errors.stream().mapToLong(RowError::getRow).distinct().count();
+  }
+
+  @Getter
+  @AllArgsConstructor
+  @EqualsAndHashCode
+  public static class RowError {
+    private final long row;
+    private final String field;
+    private final String message;
+  }
+}
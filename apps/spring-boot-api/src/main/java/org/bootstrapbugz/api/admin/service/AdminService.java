@@ -4,11 +4,16 @@ import java.util.List;
 
 import org.bootstrapbugz.api.admin.request.AdminRequest;
 import org.bootstrapbugz.api.admin.request.ChangeRoleRequest;
+import org.bootstrapbugz.api.admin.response.CacheStatisticsResponse;
 import org.bootstrapbugz.api.user.response.UserResponse;
 
 public interface AdminService {
   List<UserResponse> findAllUsers();
 
+  List<UserResponse> searchUsers(String query, long after, int limit);
+
+  List<CacheStatisticsResponse> findCacheStatistics();
+
   void changeRole(ChangeRoleRequest changeRoleRequest);
 
   void lock(AdminRequest adminRequest);
@@ -0,0 +1,10 @@
+package org.bootstrapbugz.api.admin.service;
+
+import java.io.InputStream;
+
+import org.bootstrapbugz.api.admin.request.UserImportFormat;
+import org.bootstrapbugz.api.admin.response.UserImportResponse;
+
+public interface UserImportService {
+  UserImportResponse importUsers(InputStream inputStream, UserImportFormat format);
+}
@@ -1,46 +1,88 @@
 package org.bootstrapbugz.api.admin.service.impl;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import javax.persistence.EntityManagerFactory;
+
 import org.bootstrapbugz.api.admin.request.AdminRequest;
 import org.bootstrapbugz.api.admin.request.ChangeRoleRequest;
+import org.bootstrapbugz.api.admin.response.CacheStatisticsResponse;
 import org.bootstrapbugz.api.admin.service.AdminService;
 import org.bootstrapbugz.api.auth.service.JwtService;
-import org.bootstrapbugz.api.user.mapper.UserMapper;
+import org.bootstrapbugz.api.shared.error.ErrorDomain;
+import org.bootstrapbugz.api.shared.error.exception.BadRequestException;
+import org.bootstrapbugz.api.shared.message.service.MessageService;
 import org.bootstrapbugz.api.user.model.Role;
 import org.bootstrapbugz.api.user.repository.UserRepository;
+import org.bootstrapbugz.api.user.repository.search.UserSearchRepository;
 import org.bootstrapbugz.api.user.response.UserResponse;
+import org.hibernate.SessionFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class AdminServiceImpl implements AdminService {
+  private static final int MAX_SEARCH_LIMIT = 100;
+
   private final UserRepository userRepository;
+  private final UserSearchRepository userSearchRepository;
   private final JwtService jwtService;
-  private final UserMapper userMapper;
+  private final MessageService messageService;
+  private final EntityManagerFactory entityManagerFactory;
 
   public AdminServiceImpl(
-      UserRepository userRepository, JwtService jwtService, UserMapper userMapper) {
+      UserRepository userRepository,
+      UserSearchRepository userSearchRepository,
+      JwtService jwtService,
+      MessageService messageService,
+      EntityManagerFactory entityManagerFactory) {
     this.userRepository = userRepository;
+    this.userSearchRepository = userSearchRepository;
     this.jwtService = jwtService;
-    this.userMapper = userMapper;
+    this.messageService = messageService;
+    this.entityManagerFactory = entityManagerFactory;
   }
 
   @Override
+  @Transactional(readOnly = true)
   public List<UserResponse> findAllUsers() {
-    return userRepository.findAllWithRoles().stream()
-        .map(userMapper::userToUserResponse)
+    return userRepository.findAllUserResponses();
+  }
+
+  @Override
+  public List<UserResponse> searchUsers(String query, long after, int limit) {
+    if (query == null || query.isBlank())
+      throw new BadRequestException(
+          messageService.getMessage("search.queryEmpty"), ErrorDomain.USER);
+    return userSearchRepository.search(
+        query.trim(), Math.max(after, 0), Math.min(Math.max(limit, 1), MAX_SEARCH_LIMIT));
+  }
+
+  @Override
+  public List<CacheStatisticsResponse> findCacheStatistics() {
+    final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    return Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+        .sorted()
+        .map(statistics::getCacheRegionStatistics)
+        .map(
+            region ->
+                new CacheStatisticsResponse(
+                    region.getRegionName(),
+                    region.getHitCount(),
+                    region.getMissCount(),
+                    region.getPutCount(),
+                    region.getElementCountInMemory()))
         .collect(Collectors.toList());
   }
 
   @Override
   public void changeRole(ChangeRoleRequest changeRoleRequest) {
     final var users = userRepository.findAllByUsernameIn(changeRoleRequest.getUsernames());
+    final var roles = Role.setOf(changeRoleRequest.getRoleNames());
     users.forEach(
         user -> {
-          final var roles =
-              changeRoleRequest.getRoleNames().stream().map(Role::new).collect(Collectors.toSet());
           user.setRoles(roles);
           jwtService.invalidateAllTokens(user.getUsername());
           jwtService.deleteAllRefreshTokensByUser(user.getUsername());
@@ -0,0 +1,269 @@
+package org.bootstrapbugz.api.admin.service.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+import javax.validation.Validator;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.bootstrapbugz.api.admin.request.ImportUserRequest;
+import org.bootstrapbugz.api.admin.request.UserImportFormat;
+import org.bootstrapbugz.api.admin.response.UserImportResponse;
+import org.bootstrapbugz.api.admin.service.UserImportService;
+import org.bootstrapbugz.api.auth.event.OnSendJwtEmail;
+import org.bootstrapbugz.api.auth.service.JwtService;
+import org.bootstrapbugz.api.auth.util.JwtUtil.JwtPurpose;
+import org.bootstrapbugz.api.shared.error.ErrorDomain;
+import org.bootstrapbugz.api.shared.error.exception.BadRequestException;
+import org.bootstrapbugz.api.shared.message.service.MessageService;
+import org.bootstrapbugz.api.user.model.Role;
+import org.bootstrapbugz.api.user.model.Role.RoleName;
+import org.bootstrapbugz.api.user.model.User;
+import org.bootstrapbugz.api.user.repository.UserRepository;
+import org.bootstrapbugz.api.user.service.UserExistenceService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class UserImportServiceImpl implements UserImportService {
+  private static final String CSV_HEADER = "firstName,lastName,username,email,password";
+
+  @Value("${user-import.batch-size}")
+  private int batchSize;
+
+  private final UserRepository userRepository;
+  private final JwtService jwtService;
+  private final ApplicationEventPublisher eventPublisher;
+  private final MessageService messageService;
+  private final PasswordEncoder bCryptPasswordEncoder;
+  private final Validator validator;
+  private final ObjectMapper objectMapper;
+  private final Executor passwordHashingExecutor;
+  private final TransactionTemplate transactionTemplate;
+  private final UserExistenceService userExistenceService;
+
+  public UserImportServiceImpl(
+      UserRepository userRepository,
+      JwtService jwtService,
+      ApplicationEventPublisher eventPublisher,
+      MessageService messageService,
+      PasswordEncoder bCryptPasswordEncoder,
+      Validator validator,
+      ObjectMapper objectMapper,
+      @Qualifier("passwordHashingExecutor") Executor passwordHashingExecutor,
+      TransactionTemplate transactionTemplate,
+      UserExistenceService userExistenceService) {
+    this.userRepository = userRepository;
+    this.jwtService = jwtService;
+    this.eventPublisher = eventPublisher;
+    this.messageService = messageService;
+    this.bCryptPasswordEncoder = bCryptPasswordEncoder;
+    this.validator = validator;
+    this.objectMapper = objectMapper;
+    this.passwordHashingExecutor = passwordHashingExecutor;
+    this.transactionTemplate = transactionTemplate;
+    this.userExistenceService = userExistenceService;
+  }
+
+  @Override
+  public UserImportResponse importUsers(InputStream inputStream, UserImportFormat format) {
+    final var response = new UserImportResponse();
+    final Set<String> seenUsernames = new HashSet<>();
+    final Set<String> seenEmails = new HashSet<>();
+    final List<ImportRow> chunk = new ArrayList<>();
+    try (var reader =
+        new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+      long rowNumber = 0;
+      String line;
+      while ((line = reader.readLine()) != null) {
+        rowNumber++;
+        if (line.isBlank() || isHeader(rowNumber, line, format)) continue;
+        final var row = parseRow(rowNumber, line, format, response);
+        if (row == null || !isValid(row, seenUsernames, seenEmails, response)) continue;
+        chunk.add(row);
+        if (chunk.size() >= batchSize) {
+          importChunk(chunk, response);
+          chunk.clear();
+        }
+      }
+    } catch (IOException e) {
+      log.warn("Reading user import failed: {}", e.getMessage());
+      throw new BadRequestException(
+          messageService.getMessage("import.unreadable"), ErrorDomain.GLOBAL);
+    }
+    if (!chunk.isEmpty()) importChunk(chunk, response);
+    return response;
+  }
+
+  private boolean isHeader(long rowNumber, String line, UserImportFormat format) {
+    return rowNumber == 1
+        && format == UserImportFormat.CSV
+        && line.replace(" ", "").equalsIgnoreCase(CSV_HEADER);
+  }
+
+  private ImportRow parseRow(
+      long rowNumber, String line, UserImportFormat format, UserImportResponse response) {
+    if (format == UserImportFormat.NDJSON) {
+      try {
+        return new ImportRow(rowNumber, objectMapper.readValue(line, ImportUserRequest.class));
+      } catch (JsonProcessingException e) {
+        response.reject(rowNumber, ErrorDomain.GLOBAL.getValue(), e.getOriginalMessage());
+        return null;
+      }
+    }
+    final List<String> columns = splitCsvLine(line);
+    if (columns.size() != 5) {
+      response.reject(
+          rowNumber, ErrorDomain.GLOBAL.getValue(), messageService.getMessage("import.rowInvalid"));
+      return null;
+    }
+    return new ImportRow(
+        rowNumber,
+        new ImportUserRequest(
+            columns.get(0), columns.get(1), columns.get(2), columns.get(3), columns.get(4)));
+  }
+
+  private List<String> splitCsvLine(String line) {
+    final List<String> columns = new ArrayList<>();
+    final var column = new StringBuilder();
+    var quoted = false;
+    for (var i = 0; i < line.length(); i++) {
+      final char c = line.charAt(i);
+      if (c == '"') {
+        if (quoted && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+          column.append('"');
+          i++;
+        } else quoted = !quoted;
+      } else if (c == ',' && !quoted) {
+        columns.add(column.toString().trim());
+        column.setLength(0);
+      } else column.append(c);
+    }
+    columns.add(column.toString().trim());
+    return columns;
+  }
+
+  private boolean isValid(
+      ImportRow row,
+      Set<String> seenUsernames,
+      Set<String> seenEmails,
+      UserImportResponse response) {
+    final var violations = validator.validate(row.getRequest());
+    violations.forEach(
+        violation ->
+            response.reject(
+                row.getNumber(), violation.getPropertyPath().toString(), violation.getMessage()));
+    if (!violations.isEmpty()) return false;
+
+    if (!seenUsernames.add(row.getRequest().getUsername())) {
+      response.reject(row.getNumber(), "username", messageService.getMessage("username.exists"));
+      return false;
+    }
+    if (!seenEmails.add(row.getRequest().getEmail())) {
+      response.reject(row.getNumber(), "email", messageService.getMessage("email.exists"));
+      return false;
+    }
+    return true;
+  }
+
+  private void importChunk(List<ImportRow> chunk, UserImportResponse response) {
+    final List<ImportRow> rows = rejectExisting(chunk, response);
+    if (rows.isEmpty()) return;
+
+    final List<User> users =
+        rows.stream()
+            .map(row -> CompletableFuture.supplyAsync(() -> toUser(row), passwordHashingExecutor))
+            .collect(Collectors.toList())
+            .stream()
+            .map(CompletableFuture::join)
+            .collect(Collectors.toList());
+    try {
+      transactionTemplate.executeWithoutResult(status -> insert(users));
+      response.addImported(users.size());
+    } catch (DuplicateKeyException e) {
+      // A concurrent sign-up took a username or email after the pre-check; find it row by row.
+      for (var i = 0; i < rows.size(); i++) importRow(rows.get(i), users.get(i), response);
+    }
+  }
+
+  private void insert(List<User> users) {
+    userRepository.batchInsert(users);
+    users.forEach(userExistenceService::add);
+    users.forEach(this::sendConfirmationEmail);
+  }
+
+  private void importRow(ImportRow row, User user, UserImportResponse response) {
+    try {
+      transactionTemplate.executeWithoutResult(status -> insert(List.of(user)));
+      response.addImported(1);
+    } catch (DuplicateKeyException e) {
+      if (userRepository.findUsernamesIn(Set.of(user.getUsername())).isEmpty())
+        response.reject(row.getNumber(), "email", messageService.getMessage("email.exists"));
+      else
+        response.reject(row.getNumber(), "username", messageService.getMessage("username.exists"));
+    }
+  }
+
+  private List<ImportRow> rejectExisting(List<ImportRow> chunk, UserImportResponse response) {
+    final Set<String> existingUsernames =
+        userRepository.findUsernamesIn(
+            chunk.stream().map(row -> row.getRequest().getUsername()).collect(Collectors.toSet()));
+    final Set<String> existingEmails =
+        userRepository.findEmailsIn(
+            chunk.stream().map(row -> row.getRequest().getEmail()).collect(Collectors.toSet()));
+    final List<ImportRow> rows = new ArrayList<>(chunk.size());
+    for (var row : chunk) {
+      if (existingUsernames.contains(row.getRequest().getUsername()))
+        response.reject(row.getNumber(), "username", messageService.getMessage("username.exists"));
+      else if (existingEmails.contains(row.getRequest().getEmail()))
+        response.reject(row.getNumber(), "email", messageService.getMessage("email.exists"));
+      else rows.add(row);
+    }
+    return rows;
+  }
+
+  private User toUser(ImportRow row) {
+    return new User()
+        .setFirstName(row.getRequest().getFirstName())
+        .setLastName(row.getRequest().getLastName())
+        .setUsername(row.getRequest().getUsername())
+        .setEmail(row.getRequest().getEmail())
+        .setPassword(bCryptPasswordEncoder.encode(row.getRequest().getPassword()))
+        .setRoles(Role.setOf(RoleName.USER));
+  }
+
+  private void sendConfirmationEmail(User user) {
+    final String token =
+        jwtService.createToken(user.getUsername(), JwtPurpose.CONFIRM_REGISTRATION);
+    eventPublisher.publishEvent(new OnSendJwtEmail(user, token, JwtPurpose.CONFIRM_REGISTRATION));
+  }
+
+  @Getter
+  @AllArgsConstructor
+  private static final class ImportRow {
+    private final long number;
+    private final ImportUserRequest request;
+  }
+}
@@ -1,5 +1,7 @@
 package org.bootstrapbugz.api.auth.controller;
 
+import java.util.concurrent.TimeUnit;
+
 import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 
@@ -8,10 +10,14 @@ import org.bootstrapbugz.api.auth.request.RefreshTokenRequest;
 import org.bootstrapbugz.api.auth.request.ResendConfirmationEmailRequest;
 import org.bootstrapbugz.api.auth.request.ResetPasswordRequest;
 import org.bootstrapbugz.api.auth.request.SignUpRequest;
+import org.bootstrapbugz.api.auth.response.AvailabilityResponse;
 import org.bootstrapbugz.api.auth.response.RefreshTokenResponse;
 import org.bootstrapbugz.api.auth.service.AuthService;
+import org.bootstrapbugz.api.auth.service.AvailabilityService;
 import org.bootstrapbugz.api.shared.constants.Path;
 import org.bootstrapbugz.api.user.response.UserResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -25,10 +31,15 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping(Path.AUTH)
 @RestController
 public class AuthController {
+  @Value("${availability.cache-max-age-in-secs}")
+  private long availabilityCacheMaxAgeInSecs;
+
   private final AuthService authService;
+  private final AvailabilityService availabilityService;
 
-  public AuthController(AuthService authService) {
+  public AuthController(AuthService authService, AvailabilityService availabilityService) {
     this.authService = authService;
+    this.availabilityService = availabilityService;
   }
 
   @PostMapping("/refresh-token")
@@ -42,6 +53,17 @@ public class AuthController {
     return new ResponseEntity<>(authService.signUp(signUpRequest), HttpStatus.CREATED);
   }
 
+  @GetMapping("/availability")
+  public ResponseEntity<AvailabilityResponse> checkAvailability(
+      @RequestParam(required = false) String username,
+      @RequestParam(required = false) String email,
+      HttpServletRequest request) {
+    return ResponseEntity.ok()
+        .cacheControl(
+            CacheControl.maxAge(availabilityCacheMaxAgeInSecs, TimeUnit.SECONDS).cachePrivate())
+        .body(availabilityService.checkAvailability(username, email, request));
+  }
+
   @GetMapping("/confirm-registration")
   public ResponseEntity<Void> confirmRegistration(@RequestParam("token") String token) {
     authService.confirmRegistration(token);
@@ -1,37 +1,38 @@
 package org.bootstrapbugz.api.auth.event.email;
 
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.util.Objects;
+import java.util.Map;
 
-import com.google.common.io.Files;
-
-import org.bootstrapbugz.api.shared.email.service.EmailService;
+import org.bootstrapbugz.api.auth.util.JwtUtil.JwtPurpose;
+import org.bootstrapbugz.api.shared.email.model.EmailMessage;
+import org.bootstrapbugz.api.shared.email.template.EmailTemplate;
 import org.bootstrapbugz.api.user.model.User;
-import org.springframework.core.env.Environment;
-import org.springframework.core.io.ClassPathResource;
-
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
 
-@Slf4j
+@Component
 public class ConfirmRegistrationEmail implements JwtEmail {
+  private final EmailTemplate template;
+  private final String linkPrefix;
+
+  public ConfirmRegistrationEmail(
+      @Value("${app.name}") String appName, @Value("${ui.app.url}") String uiAppUrl) {
+    this.template =
+        EmailTemplate.load(
+            "templates/email/confirm-registration.html",
+            Map.of("appName", appName),
+            "name",
+            "link");
+    this.linkPrefix = uiAppUrl + "/confirm-registration?token=";
+  }
+
+  @Override
+  public JwtPurpose getPurpose() {
+    return JwtPurpose.CONFIRM_REGISTRATION;
+  }
+
   @Override
-  public void sendEmail(
-      EmailService emailService, Environment environment, User user, String token) {
-    try {
-      final var template =
-          new ClassPathResource("templates/email/confirm-registration.html").getFile();
-      final String link =
-          environment.getProperty("ui.app.url") + "/confirm-registration?token=" + token;
-      final String body =
-          Files.asCharSource(template, StandardCharsets.UTF_8)
-              .read()
-              .replace("$name", user.getUsername())
-              .replace("$link", link)
-              .replace("$appName", Objects.requireNonNull(environment.getProperty("app.name")));
-      emailService.sendHtmlEmail(user.getEmail(), "Confirm Registration", body);
-    } catch (IOException e) {
-      log.error(e.getMessage());
-    }
+  public EmailMessage createEmail(User user, String token) {
+    final String body = template.render(user.getUsername(), linkPrefix + token);
+    return new EmailMessage(user.getEmail(), "Confirm Registration", body);
   }
 }
@@ -1,9 +1,11 @@
 package org.bootstrapbugz.api.auth.event.email;
 
-import org.bootstrapbugz.api.shared.email.service.EmailService;
+import org.bootstrapbugz.api.auth.util.JwtUtil.JwtPurpose;
+import org.bootstrapbugz.api.shared.email.model.EmailMessage;
 import org.bootstrapbugz.api.user.model.User;
-import org.springframework.core.env.Environment;
 
 public interface JwtEmail {
-  void sendEmail(EmailService emailService, Environment environment, User user, String token);
+  JwtPurpose getPurpose();
+
+  EmailMessage createEmail(User user, String token);
 }
@@ -0,0 +1,23 @@
+package org.bootstrapbugz.api.auth.event.email;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.bootstrapbugz.api.auth.util.JwtUtil.JwtPurpose;
+import org.springframework.stereotype.Component;
+
+@Component
+public class JwtEmailRegistry {
+  private final Map<JwtPurpose, JwtEmail> emails = new EnumMap<>(JwtPurpose.class);
+
+  public JwtEmailRegistry(List<JwtEmail> emails) {
+    emails.forEach(email -> this.emails.put(email.getPurpose(), email));
+  }
+
+  public JwtEmail get(JwtPurpose jwtPurpose) {
+    final var email = emails.get(jwtPurpose);
+    if (email == null) throw new IllegalArgumentException("Invalid email type: " + jwtPurpose);
+    return email;
+  }
+}
@@ -0,0 +1,47 @@
+package org.bootstrapbugz.api.auth.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("org.bootstrapbugz.auth.Login")
+@Label("Login")
+@Description("Username and password authentication, including the password hash check")
+@Category({"BootstrapBugZ", "Auth"})
+@StackTrace(false)
+public class LoginEvent extends Event {
+  private static final ThreadLocal<LoginEvent> CURRENT = new ThreadLocal<>();
+
+  @Label("Outcome")
+  private String outcome;
+
+  @Label("Hash Duration")
+  @Timespan(Timespan.NANOSECONDS)
+  private long hashDuration;
+
+  public static LoginEvent current() {
+    return CURRENT.get();
+  }
+
+  public void start() {
+    begin();
+    if (isEnabled()) CURRENT.set(this);
+  }
+
+  public void addHashDuration(long durationInNanos) {
+    hashDuration += durationInNanos;
+  }
+
+  public void finish(String outcome) {
+    end();
+    CURRENT.remove();
+    if (shouldCommit()) {
+      this.outcome = outcome;
+      commit();
+    }
+  }
+}
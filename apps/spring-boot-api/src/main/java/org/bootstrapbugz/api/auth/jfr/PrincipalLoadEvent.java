@@ -0,0 +1,26 @@
+package org.bootstrapbugz.api.auth.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("org.bootstrapbugz.auth.PrincipalLoad")
+@Label("Principal Load")
+@Description("User lookup by username or email for the security principal")
+@Category({"BootstrapBugZ", "Auth"})
+@StackTrace(false)
+public class PrincipalLoadEvent extends Event {
+  @Label("Found")
+  private boolean found;
+
+  public void finish(boolean found) {
+    end();
+    if (shouldCommit()) {
+      this.found = found;
+      commit();
+    }
+  }
+}
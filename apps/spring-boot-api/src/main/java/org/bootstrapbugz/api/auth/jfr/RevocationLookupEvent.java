@@ -0,0 +1,30 @@
+package org.bootstrapbugz.api.auth.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("org.bootstrapbugz.auth.RevocationLookup")
+@Label("Revocation Lookup")
+@Description("Redis lookup of the token or user blacklist")
+@Category({"BootstrapBugZ", "Auth"})
+@StackTrace(false)
+public class RevocationLookupEvent extends Event {
+  @Label("Blacklist")
+  private String blacklist;
+
+  @Label("Revoked")
+  private boolean revoked;
+
+  public void finish(String blacklist, boolean revoked) {
+    end();
+    if (shouldCommit()) {
+      this.blacklist = blacklist;
+      this.revoked = revoked;
+      commit();
+    }
+  }
+}
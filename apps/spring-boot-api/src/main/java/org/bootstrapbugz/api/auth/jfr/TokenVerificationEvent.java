@@ -0,0 +1,34 @@
+package org.bootstrapbugz.api.auth.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("org.bootstrapbugz.auth.TokenVerification")
+@Label("Token Verification")
+@Description("JWT signature, claim and revocation checks")
+@Category({"BootstrapBugZ", "Auth"})
+@StackTrace(false)
+public class TokenVerificationEvent extends Event {
+  @Label("Purpose")
+  private String purpose;
+
+  @Label("Outcome")
+  private String outcome;
+
+  @Label("Reason")
+  private String reason;
+
+  public void finish(String purpose, String outcome, String reason) {
+    end();
+    if (shouldCommit()) {
+      this.purpose = purpose;
+      this.outcome = outcome;
+      this.reason = reason;
+      commit();
+    }
+  }
+}
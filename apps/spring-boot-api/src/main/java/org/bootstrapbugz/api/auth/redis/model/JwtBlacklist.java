@@ -20,7 +20,7 @@ import lombok.Setter;
 public class JwtBlacklist implements Serializable {
   @Serial private static final long serialVersionUID = 7371548317284111557L;
 
-  @Id private String token;
+  @Id private String id;
 
   @TimeToLive private long timeToLive;
 }
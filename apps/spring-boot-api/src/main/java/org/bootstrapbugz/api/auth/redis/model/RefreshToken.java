@@ -23,7 +23,7 @@ import lombok.Setter;
 public class RefreshToken implements Serializable {
   @Serial private static final long serialVersionUID = -1997218842142407911L;
 
-  @Id private String token;
+  @Id private String id;
 
   @Indexed private String username;
 
@@ -0,0 +1,17 @@
+package org.bootstrapbugz.api.auth.response;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class AvailabilityResponse {
+  private Boolean usernameAvailable;
+  private Boolean emailAvailable;
+}
@@ -9,7 +9,10 @@ import javax.servlet.http.HttpServletResponse;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.gson.Gson;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
+import org.bootstrapbugz.api.auth.jfr.LoginEvent;
 import org.bootstrapbugz.api.auth.request.LoginRequest;
 import org.bootstrapbugz.api.auth.response.LoginResponse;
 import org.bootstrapbugz.api.auth.service.JwtService;
@@ -19,6 +22,7 @@ import org.bootstrapbugz.api.shared.constants.Path;
 import org.bootstrapbugz.api.shared.error.exception.ResourceNotFoundException;
 import org.bootstrapbugz.api.shared.error.handling.CustomFilterExceptionHandler;
 import org.bootstrapbugz.api.shared.message.service.MessageService;
+import org.bootstrapbugz.api.shared.timing.RequestTimer;
 import org.bootstrapbugz.api.user.mapper.UserMapper;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -34,35 +38,61 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
   private final JwtService jwtService;
   private final UserMapper userMapper;
   private final MessageService messageService;
+  private final CustomFilterExceptionHandler customFilterExceptionHandler;
+  private final MeterRegistry meterRegistry;
+  private final RequestTimer requestTimer;
 
   public JwtAuthenticationFilter(
       AuthenticationManager authenticationManager,
       JwtService jwtService,
       UserMapper userMapper,
-      MessageService messageService) {
+      MessageService messageService,
+      CustomFilterExceptionHandler customFilterExceptionHandler,
+      MeterRegistry meterRegistry,
+      RequestTimer requestTimer) {
     this.authenticationManager = authenticationManager;
     this.jwtService = jwtService;
     this.userMapper = userMapper;
     this.messageService = messageService;
+    this.customFilterExceptionHandler = customFilterExceptionHandler;
+    this.meterRegistry = meterRegistry;
+    this.requestTimer = requestTimer;
     this.setFilterProcessesUrl(Path.AUTH + "/login");
   }
 
   @Override
   public Authentication attemptAuthentication(
       HttpServletRequest request, HttpServletResponse response) {
+    final var sample = Timer.start(meterRegistry);
+    final var loginEvent = new LoginEvent();
+    loginEvent.start();
+    String outcome = "error";
     try {
       final var loginRequest =
           new ObjectMapper().readValue(request.getInputStream(), LoginRequest.class);
       final var authToken =
           new UsernamePasswordAuthenticationToken(
               loginRequest.getUsernameOrEmail(), loginRequest.getPassword(), new ArrayList<>());
-      return authenticationManager.authenticate(authToken);
+      final var authentication =
+          requestTimer.time("login", () -> authenticationManager.authenticate(authToken));
+      outcome = "success";
+      return authentication;
     } catch (IOException | AuthenticationException | ResourceNotFoundException e) {
-      CustomFilterExceptionHandler.handleException(response, getMessageBasedOnException(e));
+      outcome = getOutcomeBasedOnException(e);
+      customFilterExceptionHandler.handleException(response, getMessageBasedOnException(e));
+    } finally {
+      sample.stop(meterRegistry.timer("auth.login", "outcome", outcome));
+      loginEvent.finish(outcome);
     }
     return null;
   }
 
+  private String getOutcomeBasedOnException(Exception e) {
+    if (e instanceof DisabledException) return "not_activated";
+    else if (e instanceof LockedException) return "locked";
+    else return "invalid";
+  }
+
   private String getMessageBasedOnException(Exception e) {
     if (e instanceof DisabledException) return messageService.getMessage("user.notActivated");
     else if (e instanceof LockedException) return messageService.getMessage("user.locked");
@@ -78,7 +108,7 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
       throws IOException {
     final var user = AuthUtil.userPrincipalToUser((UserPrincipal) auth.getPrincipal());
     final String ipAddress = AuthUtil.getUserIpAddress(request);
-    final String refreshToken = findRefreshToken(user.getUsername(), ipAddress);
+    final String refreshToken = rotateRefreshToken(user.getUsername(), ipAddress);
     final var loginResponse =
         new LoginResponse()
             .setToken(jwtService.createToken(user.getUsername(), JwtPurpose.ACCESSING_RESOURCES))
@@ -87,11 +117,9 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
     writeToResponse(response, loginResponse);
   }
 
-  private String findRefreshToken(String username, String ipAddress) {
-    final String refreshToken = jwtService.findRefreshToken(username, ipAddress);
-    if (refreshToken == null)
-      return jwtService.createRefreshToken(username, ipAddress);
-    return refreshToken;
+  private String rotateRefreshToken(String username, String ipAddress) {
+    jwtService.deleteRefreshTokenByUserAndIpAddress(username, ipAddress);
+    return jwtService.createRefreshToken(username, ipAddress);
   }
 
   private void writeToResponse(HttpServletResponse response, LoginResponse loginResponse)
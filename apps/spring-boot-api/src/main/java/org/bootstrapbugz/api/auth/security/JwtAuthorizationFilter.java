@@ -9,6 +9,8 @@ import javax.servlet.http.HttpServletResponse;
 
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.exceptions.JWTVerificationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 
 import org.bootstrapbugz.api.auth.service.JwtService;
 import org.bootstrapbugz.api.auth.util.AuthUtil;
@@ -16,6 +18,7 @@ import org.bootstrapbugz.api.auth.util.JwtUtil;
 import org.bootstrapbugz.api.auth.util.JwtUtil.JwtPurpose;
 import org.bootstrapbugz.api.shared.error.exception.ForbiddenException;
 import org.bootstrapbugz.api.shared.error.exception.ResourceNotFoundException;
+import org.bootstrapbugz.api.shared.timing.RequestTimer;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -29,14 +32,25 @@ import lombok.extern.slf4j.Slf4j;
 public class JwtAuthorizationFilter extends BasicAuthenticationFilter {
   private final JwtService jwtService;
   private final UserDetailsService userDetailsService;
+  private final RequestTimer requestTimer;
+  private final Counter authenticatedCounter;
+  private final Counter rejectedCounter;
+  private final Counter userNotFoundCounter;
 
   public JwtAuthorizationFilter(
       AuthenticationManager authenticationManager,
       JwtService jwtService,
-      @Qualifier("userDetailsServiceImpl") UserDetailsService userDetailsService) {
+      @Qualifier("userDetailsServiceImpl") UserDetailsService userDetailsService,
+      MeterRegistry meterRegistry,
+      RequestTimer requestTimer) {
     super(authenticationManager);
     this.jwtService = jwtService;
     this.userDetailsService = userDetailsService;
+    this.requestTimer = requestTimer;
+    this.authenticatedCounter = meterRegistry.counter("auth.authorization", "outcome", "success");
+    this.rejectedCounter = meterRegistry.counter("auth.authorization", "outcome", "rejected");
+    this.userNotFoundCounter =
+        meterRegistry.counter("auth.authorization", "outcome", "user_not_found");
   }
 
   @Override
@@ -51,20 +65,24 @@ public class JwtAuthorizationFilter extends BasicAuthenticationFilter {
     try {
       final var authToken = getAuthenticationToken(JwtUtil.removeTokenTypeFromToken(token));
       SecurityContextHolder.getContext().setAuthentication(authToken);
-    } catch (ResourceNotFoundException
-        | JWTVerificationException
-        | IllegalArgumentException
-        | ForbiddenException e) {
-      log.error(e.getMessage());
+      authenticatedCounter.increment();
+    } catch (ResourceNotFoundException e) {
+      userNotFoundCounter.increment();
+      log.debug(e.getMessage());
+    } catch (JWTVerificationException | IllegalArgumentException | ForbiddenException e) {
+      rejectedCounter.increment();
+      log.debug(e.getMessage());
     } finally {
       chain.doFilter(request, response);
     }
   }
 
   private UsernamePasswordAuthenticationToken getAuthenticationToken(String token) {
+    requestTimer.time("jwt", () -> jwtService.checkToken(token, JwtPurpose.ACCESSING_RESOURCES));
     final String username = JWT.decode(token).getSubject();
-    final var userPrincipal = (UserPrincipal) userDetailsService.loadUserByUsername(username);
-    jwtService.checkToken(token, JwtPurpose.ACCESSING_RESOURCES);
+    final var userPrincipal =
+        (UserPrincipal)
+            requestTimer.time("user", () -> userDetailsService.loadUserByUsername(username));
 
     return new UsernamePasswordAuthenticationToken(
         userPrincipal, null, userPrincipal.getAuthorities());
@@ -0,0 +1,44 @@
+package org.bootstrapbugz.api.auth.security;
+
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.bootstrapbugz.api.auth.jfr.LoginEvent;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+public class TimedPasswordEncoder implements PasswordEncoder {
+  private final PasswordEncoder delegate;
+  private final Timer encodeTimer;
+  private final Timer matchesTimer;
+
+  public TimedPasswordEncoder(PasswordEncoder delegate, MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.encodeTimer = meterRegistry.timer("auth.password.hashing", "operation", "encode");
+    this.matchesTimer = meterRegistry.timer("auth.password.hashing", "operation", "matches");
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return encodeTimer.record(() -> delegate.encode(rawPassword));
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    final long start = System.nanoTime();
+    try {
+      return delegate.matches(rawPassword, encodedPassword);
+    } finally {
+      final long duration = System.nanoTime() - start;
+      matchesTimer.record(duration, TimeUnit.NANOSECONDS);
+      final var loginEvent = LoginEvent.current();
+      if (loginEvent != null) loginEvent.addHashDuration(duration);
+    }
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    return delegate.upgradeEncoding(encodedPassword);
+  }
+}
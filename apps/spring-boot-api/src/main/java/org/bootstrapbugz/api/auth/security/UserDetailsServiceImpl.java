@@ -1,5 +1,6 @@
 package org.bootstrapbugz.api.auth.security;
 
+import org.bootstrapbugz.api.auth.jfr.PrincipalLoadEvent;
 import org.bootstrapbugz.api.shared.error.ErrorDomain;
 import org.bootstrapbugz.api.shared.error.exception.ResourceNotFoundException;
 import org.bootstrapbugz.api.shared.message.service.MessageService;
@@ -20,15 +21,17 @@ public class UserDetailsServiceImpl implements UserDetailsService {
   }
 
   @Override
-  @Transactional
+  @Transactional(readOnly = true)
   public UserDetails loadUserByUsername(String username) {
+    final var event = new PrincipalLoadEvent();
+    event.begin();
+    final var found = userRepository.findByUsernameOrEmail(username, username);
+    event.finish(found.isPresent());
     final var user =
-        userRepository
-            .findByUsernameOrEmail(username, username)
-            .orElseThrow(
-                () ->
-                    new ResourceNotFoundException(
-                        messageService.getMessage("user.notFound"), ErrorDomain.AUTH));
+        found.orElseThrow(
+            () ->
+                new ResourceNotFoundException(
+                    messageService.getMessage("user.notFound"), ErrorDomain.AUTH));
     return UserPrincipal.create(user);
   }
 }
@@ -2,14 +2,12 @@ package org.bootstrapbugz.api.auth.security;
 
 import java.io.Serial;
 import java.util.Collection;
-import java.util.List;
-import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
+import org.bootstrapbugz.api.user.model.Role;
 import org.bootstrapbugz.api.user.model.User;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import lombok.AllArgsConstructor;
@@ -41,13 +39,7 @@ public class UserPrincipal implements UserDetails {
         user.getPassword(),
         user.isActivated(),
         user.isNonLocked(),
-        getAuthorities(user));
-  }
-
-  private static List<GrantedAuthority> getAuthorities(User user) {
-    return user.getRoles().stream()
-        .map(role -> new SimpleGrantedAuthority(role.getName().name()))
-        .collect(Collectors.toList());
+        Role.fromBits(Role.toBits(user.getRoles())));
   }
 
   @Override
@@ -0,0 +1,9 @@
+package org.bootstrapbugz.api.auth.service;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.bootstrapbugz.api.auth.response.AvailabilityResponse;
+
+public interface AvailabilityService {
+  AvailabilityResponse checkAvailability(String username, String email, HttpServletRequest request);
+}
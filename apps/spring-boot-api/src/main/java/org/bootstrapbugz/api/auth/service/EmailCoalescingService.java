@@ -0,0 +1,7 @@
+package org.bootstrapbugz.api.auth.service;
+
+import org.bootstrapbugz.api.auth.util.JwtUtil.JwtPurpose;
+
+public interface EmailCoalescingService {
+  boolean tryAcquire(String username, JwtPurpose purpose);
+}
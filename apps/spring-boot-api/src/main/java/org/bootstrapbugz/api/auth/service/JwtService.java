@@ -15,8 +15,6 @@ public interface JwtService {
 
   void checkRefreshToken(String refreshToken);
 
-  String findRefreshToken(String username, String ipAddress);
-
   void deleteRefreshToken(String token);
 
   void deleteRefreshTokenByUserAndIpAddress(String username, String ipAddress);
@@ -0,0 +1,5 @@
+package org.bootstrapbugz.api.auth.service;
+
+public interface TokenStoreMigrationService {
+  long migrate();
+}
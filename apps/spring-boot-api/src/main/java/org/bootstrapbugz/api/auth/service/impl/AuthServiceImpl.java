@@ -1,7 +1,5 @@
 package org.bootstrapbugz.api.auth.service.impl;
 
-import java.util.Collections;
-
 import javax.servlet.http.HttpServletRequest;
 
 import com.auth0.jwt.JWT;
@@ -14,11 +12,13 @@ import org.bootstrapbugz.api.auth.request.ResetPasswordRequest;
 import org.bootstrapbugz.api.auth.request.SignUpRequest;
 import org.bootstrapbugz.api.auth.response.RefreshTokenResponse;
 import org.bootstrapbugz.api.auth.service.AuthService;
+import org.bootstrapbugz.api.auth.service.EmailCoalescingService;
 import org.bootstrapbugz.api.auth.service.JwtService;
 import org.bootstrapbugz.api.auth.util.AuthUtil;
 import org.bootstrapbugz.api.auth.util.JwtUtil;
 import org.bootstrapbugz.api.auth.util.JwtUtil.JwtPurpose;
 import org.bootstrapbugz.api.shared.error.ErrorDomain;
+import org.bootstrapbugz.api.shared.error.exception.ConflictException;
 import org.bootstrapbugz.api.shared.error.exception.ForbiddenException;
 import org.bootstrapbugz.api.shared.error.exception.ResourceNotFoundException;
 import org.bootstrapbugz.api.shared.message.service.MessageService;
@@ -29,8 +29,10 @@ import org.bootstrapbugz.api.user.model.User;
 import org.bootstrapbugz.api.user.repository.UserRepository;
 import org.bootstrapbugz.api.user.response.UserResponse;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class AuthServiceImpl implements AuthService {
@@ -40,6 +42,7 @@ public class AuthServiceImpl implements AuthService {
   private final MessageService messageService;
   private final PasswordEncoder bCryptPasswordEncoder;
   private final UserMapper userMapper;
+  private final EmailCoalescingService emailCoalescingService;
 
   public AuthServiceImpl(
       UserRepository userRepository,
@@ -47,13 +50,15 @@ public class AuthServiceImpl implements AuthService {
       ApplicationEventPublisher eventPublisher,
       MessageService messageService,
       PasswordEncoder bCryptPasswordEncoder,
-      UserMapper userMapper) {
+      UserMapper userMapper,
+      EmailCoalescingService emailCoalescingService) {
     this.userRepository = userRepository;
     this.jwtService = jwtService;
     this.eventPublisher = eventPublisher;
     this.messageService = messageService;
     this.bCryptPasswordEncoder = bCryptPasswordEncoder;
     this.userMapper = userMapper;
+    this.emailCoalescingService = emailCoalescingService;
   }
 
   @Override
@@ -71,6 +76,7 @@ public class AuthServiceImpl implements AuthService {
   }
 
   @Override
+  @Transactional
   public UserResponse signUp(SignUpRequest signUpRequest) {
     final var user = createUser(signUpRequest);
     final String token =
@@ -87,8 +93,16 @@ public class AuthServiceImpl implements AuthService {
             .setUsername(signUpRequest.getUsername())
             .setEmail(signUpRequest.getEmail())
             .setPassword(bCryptPasswordEncoder.encode(signUpRequest.getPassword()))
-            .setRoles(Collections.singleton(new Role(RoleName.USER)));
-    return userRepository.save(user);
+            .setRoles(Role.setOf(RoleName.USER));
+    try {
+      return userRepository.save(user);
+    } catch (DataIntegrityViolationException e) {
+      // The membership filter is per node, so a user created on another node can pass validation.
+      final String cause = String.valueOf(e.getMostSpecificCause().getMessage());
+      final String code =
+          cause.toLowerCase().contains("users_email_key") ? "email.exists" : "username.exists";
+      throw new ConflictException(messageService.getMessage(code), ErrorDomain.AUTH);
+    }
   }
 
   @Override
@@ -109,6 +123,7 @@ public class AuthServiceImpl implements AuthService {
   }
 
   @Override
+  @Transactional
   public void resendConfirmationEmail(ResendConfirmationEmailRequest request) {
     final var user =
         userRepository
@@ -119,12 +134,15 @@ public class AuthServiceImpl implements AuthService {
                         messageService.getMessage("user.notFound"), ErrorDomain.AUTH));
     if (user.isActivated())
       throw new ForbiddenException(messageService.getMessage("user.activated"), ErrorDomain.AUTH);
+    if (!emailCoalescingService.tryAcquire(user.getUsername(), JwtPurpose.CONFIRM_REGISTRATION))
+      return;
     final String token =
         jwtService.createToken(user.getUsername(), JwtPurpose.CONFIRM_REGISTRATION);
     eventPublisher.publishEvent(new OnSendJwtEmail(user, token, JwtPurpose.CONFIRM_REGISTRATION));
   }
 
   @Override
+  @Transactional
   public void forgotPassword(ForgotPasswordRequest forgotPasswordRequest) {
     final var user =
         userRepository
@@ -133,6 +151,7 @@ public class AuthServiceImpl implements AuthService {
                 () ->
                     new ResourceNotFoundException(
                         messageService.getMessage("user.notFound"), ErrorDomain.AUTH));
+    if (!emailCoalescingService.tryAcquire(user.getUsername(), JwtPurpose.FORGOT_PASSWORD)) return;
     final String token = jwtService.createToken(user.getUsername(), JwtPurpose.FORGOT_PASSWORD);
     eventPublisher.publishEvent(new OnSendJwtEmail(user, token, JwtPurpose.FORGOT_PASSWORD));
   }
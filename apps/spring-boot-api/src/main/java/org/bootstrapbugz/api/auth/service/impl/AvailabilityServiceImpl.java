@@ -0,0 +1,106 @@
+package org.bootstrapbugz.api.auth.service.impl;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Predicate;
+
+import javax.servlet.http.HttpServletRequest;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import org.bootstrapbugz.api.auth.response.AvailabilityResponse;
+import org.bootstrapbugz.api.auth.service.AvailabilityService;
+import org.bootstrapbugz.api.shared.error.ErrorDomain;
+import org.bootstrapbugz.api.shared.error.exception.BadRequestException;
+import org.bootstrapbugz.api.shared.error.exception.TooManyRequestsException;
+import org.bootstrapbugz.api.shared.message.service.MessageService;
+import org.bootstrapbugz.api.user.service.UserExistenceService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class AvailabilityServiceImpl implements AvailabilityService {
+  private static final String RATE_LIMIT_KEY_PREFIX = "AvailabilityRateLimit:";
+  private static final RedisScript<Long> RATE_LIMIT_SCRIPT =
+      new DefaultRedisScript<>(
+          "local count = redis.call('INCR', KEYS[1]) "
+              + "if count == 1 then redis.call('EXPIRE', KEYS[1], ARGV[1]) end "
+              + "return count",
+          Long.class);
+
+  @Value("${availability.rate-limit.requests}")
+  private long rateLimitRequests;
+
+  @Value("${availability.rate-limit.window-in-secs}")
+  private long rateLimitWindowInSecs;
+
+  private final UserExistenceService userExistenceService;
+  private final StringRedisTemplate stringRedisTemplate;
+  private final MessageService messageService;
+  private final Cache<String, Boolean> absentValues;
+
+  public AvailabilityServiceImpl(
+      UserExistenceService userExistenceService,
+      StringRedisTemplate stringRedisTemplate,
+      MessageService messageService,
+      @Value("${availability.negative-cache.ttl-in-secs}") long negativeCacheTtlInSecs,
+      @Value("${availability.negative-cache.max-size}") long negativeCacheMaxSize) {
+    this.userExistenceService = userExistenceService;
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.messageService = messageService;
+    this.absentValues =
+        CacheBuilder.newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(negativeCacheTtlInSecs))
+            .maximumSize(negativeCacheMaxSize)
+            .build();
+  }
+
+  @Override
+  public AvailabilityResponse checkAvailability(
+      String username, String email, HttpServletRequest request) {
+    if (username == null && email == null)
+      throw new BadRequestException(
+          messageService.getMessage("availability.queryEmpty"), ErrorDomain.AUTH);
+    if (!tryAcquire(request.getRemoteAddr()))
+      throw new TooManyRequestsException(
+          messageService.getMessage("availability.tooManyRequests"), ErrorDomain.AUTH);
+
+    final Boolean usernameAvailable =
+        username == null ? null : isAbsent("u:", username, userExistenceService::existsByUsername);
+    final Boolean emailAvailable =
+        email == null ? null : isAbsent("e:", email, userExistenceService::existsByEmail);
+    return new AvailabilityResponse(usernameAvailable, emailAvailable);
+  }
+
+  // The cache key is the exact value that is looked up. Lookups are case-sensitive, so lowercasing
+  // the key would let an absent "USER" answer for an existing "user".
+  private boolean isAbsent(String prefix, String value, Predicate<String> exists) {
+    final String normalized = value.trim();
+    final String key = prefix + normalized;
+    if (absentValues.getIfPresent(key) != null) return true;
+    final boolean absent = !exists.test(normalized);
+    if (absent) absentValues.put(key, Boolean.TRUE);
+    return absent;
+  }
+
+  private boolean tryAcquire(String ipAddress) {
+    final String key = RATE_LIMIT_KEY_PREFIX + ipAddress;
+    try {
+      final Long count =
+          stringRedisTemplate.execute(
+              RATE_LIMIT_SCRIPT, List.of(key), String.valueOf(rateLimitWindowInSecs));
+      return count == null || count <= rateLimitRequests;
+    } catch (DataAccessException e) {
+      log.warn("Availability rate limit unavailable, allowing request: {}", e.getMessage());
+      return true;
+    }
+  }
+}
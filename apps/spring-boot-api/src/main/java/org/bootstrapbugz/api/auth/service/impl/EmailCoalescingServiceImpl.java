@@ -0,0 +1,76 @@
+package org.bootstrapbugz.api.auth.service.impl;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.bootstrapbugz.api.auth.service.EmailCoalescingService;
+import org.bootstrapbugz.api.auth.util.JwtUtil.JwtPurpose;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class EmailCoalescingServiceImpl implements EmailCoalescingService {
+  private static final String KEY_PREFIX = "EmailCoalescing:";
+
+  @Value("${email.coalescing-window-in-secs}")
+  private long windowInSecs;
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final Map<JwtPurpose, Counter> suppressedCounters = new EnumMap<>(JwtPurpose.class);
+
+  public EmailCoalescingServiceImpl(
+      StringRedisTemplate stringRedisTemplate, MeterRegistry meterRegistry) {
+    this.stringRedisTemplate = stringRedisTemplate;
+    for (var purpose : JwtPurpose.values())
+      suppressedCounters.put(
+          purpose, meterRegistry.counter("email.coalesced", "purpose", purpose.name()));
+  }
+
+  @Override
+  public boolean tryAcquire(String username, JwtPurpose purpose) {
+    final String key = KEY_PREFIX + purpose + ":" + username;
+    final Boolean acquired;
+    try {
+      acquired =
+          stringRedisTemplate.opsForValue().setIfAbsent(key, "", Duration.ofSeconds(windowInSecs));
+    } catch (DataAccessException e) {
+      log.warn("Email coalescing unavailable, sending anyway: {}", e.getMessage());
+      return true;
+    }
+    if (Boolean.FALSE.equals(acquired)) {
+      suppressedCounters.get(purpose).increment();
+      return false;
+    }
+    if (TransactionSynchronizationManager.isSynchronizationActive())
+      releaseOnRollback(key);
+    return true;
+  }
+
+  // The email is only written to the outbox on commit, so a rolled back request must not
+  // suppress the retry that follows it.
+  private void releaseOnRollback(String key) {
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCompletion(int status) {
+            if (status == STATUS_COMMITTED) return;
+            try {
+              stringRedisTemplate.delete(key);
+            } catch (DataAccessException e) {
+              log.warn("Releasing email coalescing key {} failed: {}", key, e.getMessage());
+            }
+          }
+        });
+  }
+}
@@ -1,9 +1,21 @@
 package org.bootstrapbugz.api.auth.service.impl;
 
 import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
 
 import com.auth0.jwt.JWT;
-
+import com.auth0.jwt.exceptions.AlgorithmMismatchException;
+import com.auth0.jwt.exceptions.InvalidClaimException;
+import com.auth0.jwt.exceptions.JWTDecodeException;
+import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.auth0.jwt.exceptions.TokenExpiredException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.bootstrapbugz.api.auth.jfr.RevocationLookupEvent;
+import org.bootstrapbugz.api.auth.jfr.TokenVerificationEvent;
 import org.bootstrapbugz.api.auth.redis.model.JwtBlacklist;
 import org.bootstrapbugz.api.auth.redis.model.RefreshToken;
 import org.bootstrapbugz.api.auth.redis.model.UserBlacklist;
@@ -13,9 +25,11 @@ import org.bootstrapbugz.api.auth.redis.repository.UserBlacklistRepository;
 import org.bootstrapbugz.api.auth.service.JwtService;
 import org.bootstrapbugz.api.auth.util.JwtUtil;
 import org.bootstrapbugz.api.auth.util.JwtUtil.JwtPurpose;
+import org.bootstrapbugz.api.auth.util.TokenKeyUtil;
 import org.bootstrapbugz.api.shared.error.ErrorDomain;
 import org.bootstrapbugz.api.shared.error.exception.ForbiddenException;
 import org.bootstrapbugz.api.shared.message.service.MessageService;
+import org.bootstrapbugz.api.shared.timing.RequestTimer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -34,16 +48,26 @@ public class JwtServiceImpl implements JwtService {
   private final UserBlacklistRepository userBlacklistRepository;
   private final RefreshTokenRepository refreshTokenRepository;
   private final MessageService messageService;
+  private final MeterRegistry meterRegistry;
+  private final RequestTimer requestTimer;
+  private final Map<JwtPurpose, Timer> verificationTimers = new EnumMap<>(JwtPurpose.class);
 
   public JwtServiceImpl(
       JwtBlacklistRepository jwtBlacklistRepository,
       UserBlacklistRepository userBlacklistRepository,
       RefreshTokenRepository refreshTokenRepository,
-      MessageService messageService) {
+      MessageService messageService,
+      MeterRegistry meterRegistry,
+      RequestTimer requestTimer) {
     this.jwtBlacklistRepository = jwtBlacklistRepository;
     this.userBlacklistRepository = userBlacklistRepository;
     this.refreshTokenRepository = refreshTokenRepository;
     this.messageService = messageService;
+    this.meterRegistry = meterRegistry;
+    this.requestTimer = requestTimer;
+    for (var purpose : JwtPurpose.values())
+      verificationTimers.put(
+          purpose, meterRegistry.timer("auth.token.verification", "purpose", purpose.name()));
   }
 
   private String createSecret(JwtPurpose purpose) {
@@ -57,33 +81,87 @@ public class JwtServiceImpl implements JwtService {
 
   @Override
   public void checkToken(String token, JwtPurpose purpose) {
-    JwtUtil.isTokenValid(token, createSecret(purpose));
-    isInJwtBlacklist(token);
-    isInUserBlacklist(token);
+    verify(
+        purpose,
+        () -> {
+          JwtUtil.isTokenValid(token, createSecret(purpose));
+          requestTimer.time(
+              "blacklist",
+              () -> {
+                final var decodedJwt = JWT.decode(token);
+                isInJwtBlacklist(decodedJwt);
+                isInUserBlacklist(decodedJwt);
+              });
+        });
+  }
+
+  private void verify(JwtPurpose purpose, Runnable checks) {
+    final var sample = Timer.start(meterRegistry);
+    final var event = new TokenVerificationEvent();
+    event.begin();
+    try {
+      checks.run();
+      event.finish(purpose.name(), "success", null);
+    } catch (RuntimeException e) {
+      final String reason = getReason(e);
+      meterRegistry
+          .counter("auth.token.failures", "purpose", purpose.name(), "reason", reason)
+          .increment();
+      event.finish(purpose.name(), "failure", reason);
+      throw e;
+    } finally {
+      sample.stop(verificationTimers.get(purpose));
+    }
   }
 
-  private void isInJwtBlacklist(String token) {
-    if (jwtBlacklistRepository.existsById(token))
+  private String getReason(RuntimeException e) {
+    if (e instanceof TokenExpiredException) return "expired";
+    else if (e instanceof SignatureVerificationException) return "signature";
+    else if (e instanceof AlgorithmMismatchException) return "algorithm";
+    else if (e instanceof InvalidClaimException) return "claim";
+    else if (e instanceof JWTDecodeException) return "malformed";
+    else if (e instanceof ForbiddenException) return "revoked";
+    else return "other";
+  }
+
+  private String tokenKey(String token) {
+    return TokenKeyUtil.tokenKey(JWT.decode(token).getSubject(), token);
+  }
+
+  private void isInJwtBlacklist(DecodedJWT decodedJwt) {
+    final var event = new RevocationLookupEvent();
+    event.begin();
+    final boolean revoked =
+        jwtBlacklistRepository.existsById(
+            TokenKeyUtil.tokenKey(decodedJwt.getSubject(), decodedJwt.getToken()));
+    event.finish("token", revoked);
+    if (revoked)
       throw new ForbiddenException(messageService.getMessage("token.invalid"), ErrorDomain.AUTH);
   }
 
-  private void isInUserBlacklist(String token) {
-    final var decodedJwt = JWT.decode(token);
-    final var userInBlacklist = userBlacklistRepository.findById(decodedJwt.getSubject());
-    if (userInBlacklist.isPresent()
-        && Instant.parse(decodedJwt.getClaim("issuedAt").asString())
-            .isBefore(userInBlacklist.get().getUpdatedAt()))
+  private void isInUserBlacklist(DecodedJWT decodedJwt) {
+    final var event = new RevocationLookupEvent();
+    event.begin();
+    final var userInBlacklist =
+        userBlacklistRepository.findById(TokenKeyUtil.userKey(decodedJwt.getSubject()));
+    final boolean revoked =
+        userInBlacklist.isPresent()
+            && Instant.parse(decodedJwt.getClaim("issuedAt").asString())
+                .isBefore(userInBlacklist.get().getUpdatedAt());
+    event.finish("user", revoked);
+    if (revoked)
       throw new ForbiddenException(messageService.getMessage("token.invalid"), ErrorDomain.AUTH);
   }
 
   @Override
   public void invalidateToken(String token) {
-    jwtBlacklistRepository.save(new JwtBlacklist(token, expirationTimeInSecs));
+    jwtBlacklistRepository.save(new JwtBlacklist(tokenKey(token), expirationTimeInSecs));
   }
 
   @Override
   public void invalidateAllTokens(String username) {
-    userBlacklistRepository.save(new UserBlacklist(username, Instant.now(), expirationTimeInSecs));
+    userBlacklistRepository.save(
+        new UserBlacklist(TokenKeyUtil.userKey(username), Instant.now(), expirationTimeInSecs));
   }
 
   @Override
@@ -93,7 +171,7 @@ public class JwtServiceImpl implements JwtService {
             username, refreshTokenExpirationTimeInSecs, createSecret(JwtPurpose.REFRESH_TOKEN));
     refreshTokenRepository.save(
         new RefreshToken(
-            JwtUtil.removeTokenTypeFromToken(refreshToken),
+            TokenKeyUtil.tokenKey(username, JwtUtil.removeTokenTypeFromToken(refreshToken)),
             username,
             ipAddress,
             refreshTokenExpirationTimeInSecs));
@@ -102,20 +180,19 @@ public class JwtServiceImpl implements JwtService {
 
   @Override
   public void checkRefreshToken(String refreshToken) {
-    JwtUtil.isTokenValid(refreshToken, createSecret(JwtPurpose.REFRESH_TOKEN));
-    if (!refreshTokenRepository.existsById(refreshToken))
-      throw new ForbiddenException(messageService.getMessage("token.invalid"), ErrorDomain.AUTH);
-  }
-
-  @Override
-  public String findRefreshToken(String username, String ipAddress) {
-    final var refreshToken = refreshTokenRepository.findByUsernameAndIpAddress(username, ipAddress);
-    return refreshToken.map(token -> JwtUtil.TOKEN_TYPE + token.getToken()).orElse(null);
+    verify(
+        JwtPurpose.REFRESH_TOKEN,
+        () -> {
+          JwtUtil.isTokenValid(refreshToken, createSecret(JwtPurpose.REFRESH_TOKEN));
+          if (!refreshTokenRepository.existsById(tokenKey(refreshToken)))
+            throw new ForbiddenException(
+                messageService.getMessage("token.invalid"), ErrorDomain.AUTH);
+        });
   }
 
   @Override
   public void deleteRefreshToken(String token) {
-    refreshTokenRepository.deleteById(token);
+    refreshTokenRepository.deleteById(tokenKey(token));
   }
 
   @Override
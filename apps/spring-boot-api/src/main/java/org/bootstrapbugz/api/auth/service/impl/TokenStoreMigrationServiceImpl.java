@@ -0,0 +1,149 @@
+package org.bootstrapbugz.api.auth.service.impl;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import javax.annotation.PostConstruct;
+
+import com.auth0.jwt.JWT;
+
+import org.bootstrapbugz.api.auth.redis.model.JwtBlacklist;
+import org.bootstrapbugz.api.auth.redis.model.RefreshToken;
+import org.bootstrapbugz.api.auth.redis.model.UserBlacklist;
+import org.bootstrapbugz.api.auth.redis.repository.JwtBlacklistRepository;
+import org.bootstrapbugz.api.auth.redis.repository.RefreshTokenRepository;
+import org.bootstrapbugz.api.auth.redis.repository.UserBlacklistRepository;
+import org.bootstrapbugz.api.auth.service.TokenStoreMigrationService;
+import org.bootstrapbugz.api.auth.util.TokenKeyUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Service;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class TokenStoreMigrationServiceImpl implements TokenStoreMigrationService {
+  @Value("${token-store.migrate-on-startup}")
+  private boolean migrateOnStartup;
+
+  @Value("${token-store.migration.scan-count}")
+  private int scanCount;
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final JwtBlacklistRepository jwtBlacklistRepository;
+  private final UserBlacklistRepository userBlacklistRepository;
+  private final RefreshTokenRepository refreshTokenRepository;
+
+  public TokenStoreMigrationServiceImpl(
+      StringRedisTemplate stringRedisTemplate,
+      JwtBlacklistRepository jwtBlacklistRepository,
+      UserBlacklistRepository userBlacklistRepository,
+      RefreshTokenRepository refreshTokenRepository) {
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.jwtBlacklistRepository = jwtBlacklistRepository;
+    this.userBlacklistRepository = userBlacklistRepository;
+    this.refreshTokenRepository = refreshTokenRepository;
+  }
+
+  private interface Migration<T> {
+    T toDigestKeyed(String legacyId, T legacy, long timeToLive);
+  }
+
+  // Runs before the web server starts, so no revocation check misses an unmigrated entry.
+  @PostConstruct
+  public void migrateOnStartup() {
+    if (migrateOnStartup) migrate();
+  }
+
+  @Override
+  public long migrate() {
+    final long migrated =
+        migrate(
+                "RefreshToken",
+                refreshTokenRepository,
+                this::isLegacyTokenKey,
+                (id, refreshToken, timeToLive) ->
+                    new RefreshToken(
+                        TokenKeyUtil.tokenKey(refreshToken.getUsername(), toToken(id)),
+                        refreshToken.getUsername(),
+                        refreshToken.getIpAddress(),
+                        timeToLive))
+            + migrate(
+                "JwtBlacklist",
+                jwtBlacklistRepository,
+                this::isLegacyTokenKey,
+                (id, jwtBlacklist, timeToLive) -> {
+                  final String token = toToken(id);
+                  return new JwtBlacklist(
+                      TokenKeyUtil.tokenKey(JWT.decode(token).getSubject(), token), timeToLive);
+                })
+            + migrate(
+                "UserBlacklist",
+                userBlacklistRepository,
+                id -> !id.startsWith("{"),
+                (id, userBlacklist, timeToLive) ->
+                    new UserBlacklist(
+                        TokenKeyUtil.userKey(id), userBlacklist.getUpdatedAt(), timeToLive));
+    log.info("Migrated {} token store entries to digest keys", migrated);
+    return migrated;
+  }
+
+  // Digest keys never contain the dots that separate the parts of a signed token.
+  private boolean isLegacyTokenKey(String id) {
+    return id.indexOf('.') >= 0;
+  }
+
+  private String toToken(String legacyId) {
+    return legacyId.startsWith("{") ? legacyId.substring(legacyId.indexOf("}:") + 2) : legacyId;
+  }
+
+  private <T> long migrate(
+      String keyspace,
+      CrudRepository<T, String> repository,
+      Predicate<String> isLegacy,
+      Migration<T> migration) {
+    long migrated = 0;
+    try (var ids =
+        stringRedisTemplate
+            .opsForSet()
+            .scan(keyspace, ScanOptions.scanOptions().count(scanCount).build())) {
+      while (ids.hasNext()) {
+        final String id = ids.next();
+        if (isLegacy.test(id) && migrate(keyspace, id, repository, migration)) migrated++;
+      }
+    }
+    return migrated;
+  }
+
+  private <T> boolean migrate(
+      String keyspace, String id, CrudRepository<T, String> repository, Migration<T> migration) {
+    final Long remaining = stringRedisTemplate.getExpire(keyspace + ":" + id, TimeUnit.SECONDS);
+    if (remaining == null) {
+      log.warn("Skipping {} entry, its time to live could not be read", keyspace);
+      return false;
+    }
+    // The hash expired after the scan, so deleteById would find nothing to clean up.
+    if (remaining == -2) {
+      removeOrphanedMembers(keyspace, id);
+      return false;
+    }
+    // A time to live of 0 must not be saved as persistent.
+    final Optional<T> legacy = remaining != 0 ? repository.findById(id) : Optional.empty();
+    legacy.ifPresent(entry -> repository.save(migration.toDigestKeyed(id, entry, remaining)));
+    repository.deleteById(id);
+    return legacy.isPresent();
+  }
+
+  private void removeOrphanedMembers(String keyspace, String id) {
+    final String indexesKey = keyspace + ":" + id + ":idx";
+    final var indexes = stringRedisTemplate.opsForSet().members(indexesKey);
+    if (indexes != null)
+      indexes.forEach(index -> stringRedisTemplate.opsForSet().remove(index, id));
+    stringRedisTemplate.delete(indexesKey);
+    stringRedisTemplate.opsForSet().remove(keyspace, id);
+  }
+}
@@ -1,6 +1,7 @@
 package org.bootstrapbugz.api.auth.util;
 
-import java.util.stream.Collectors;
+import java.util.Collection;
+import java.util.Set;
 
 import javax.servlet.http.HttpServletRequest;
 
@@ -8,6 +9,7 @@ import org.bootstrapbugz.api.auth.security.UserPrincipal;
 import org.bootstrapbugz.api.user.model.Role;
 import org.bootstrapbugz.api.user.model.Role.RoleName;
 import org.bootstrapbugz.api.user.model.User;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 public class AuthUtil {
@@ -30,10 +32,18 @@ public class AuthUtil {
         .setPassword(userPrincipal.getPassword())
         .setActivated(userPrincipal.isEnabled())
         .setNonLocked(userPrincipal.isAccountNonLocked())
-        .setRoles(
-            userPrincipal.getAuthorities().stream()
-                .map(authority -> new Role(RoleName.valueOf(authority.getAuthority())))
-                .collect(Collectors.toSet()));
+        .setRoles(toRoles(userPrincipal.getAuthorities()));
+  }
+
+  private static Set<Role> toRoles(Collection<? extends GrantedAuthority> authorities) {
+    var bits = 0;
+    for (var authority : authorities) {
+      bits |=
+          authority instanceof Role role
+              ? role.getName().getBit()
+              : RoleName.valueOf(authority.getAuthority()).getBit();
+    }
+    return Role.fromBits(bits);
   }
 
   public static String getUserIpAddress(HttpServletRequest request) {
@@ -0,0 +1,27 @@
+package org.bootstrapbugz.api.auth.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.google.common.hash.Hashing;
+
+public class TokenKeyUtil {
+  private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+  private TokenKeyUtil() {}
+
+  // Redis Cluster hashes only the part inside braces, so every key of a user lands on one slot.
+  public static String userKey(String username) {
+    return "{" + username + "}";
+  }
+
+  public static String tokenKey(String username, String token) {
+    return userKey(username) + ":" + digest(token);
+  }
+
+  // 43 characters whatever the token size, so the key, its id field and index entries stay small.
+  public static String digest(String token) {
+    return ENCODER.encodeToString(
+        Hashing.sha256().hashString(token, StandardCharsets.UTF_8).asBytes());
+  }
+}
@@ -0,0 +1,108 @@
+package org.bootstrapbugz.api.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bootstrapbugz.api.shared.datasource.ReadYourWritesTracker;
+import org.bootstrapbugz.api.shared.datasource.ReplicaCacheModeJpaDialect;
+import org.bootstrapbugz.api.shared.datasource.ReplicaRoutingDataSource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaVendorAdapter;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+@Configuration
+public class DataSourceConfig implements DisposableBean {
+  private final List<HikariDataSource> replicas = new ArrayList<>();
+
+  @Value("${datasource.replica.urls:}")
+  private List<String> replicaUrls;
+
+  @Value("${datasource.replica.username:${spring.datasource.username}}")
+  private String replicaUsername;
+
+  @Value("${datasource.replica.password:${spring.datasource.password}}")
+  private String replicaPassword;
+
+  @Value("${datasource.replica.sticky-window-in-secs}")
+  private long stickyWindowInSecs;
+
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+    return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(
+      HikariDataSource primaryDataSource, ObjectProvider<MeterRegistry> meterRegistry) {
+    for (var url : replicaUrls) {
+      if (url.isBlank()) continue;
+      replicas.add(createReplica(primaryDataSource, url.trim(), meterRegistry.getIfAvailable()));
+    }
+    if (replicas.isEmpty()) return primaryDataSource;
+    final var routingDataSource =
+        new ReplicaRoutingDataSource(
+            primaryDataSource,
+            new ArrayList<>(replicas),
+            new ReadYourWritesTracker(Duration.ofSeconds(stickyWindowInSecs)));
+    routingDataSource.afterPropertiesSet();
+    return new LazyConnectionDataSourceProxy(routingDataSource);
+  }
+
+  @Bean
+  public JpaVendorAdapter jpaVendorAdapter(JpaProperties jpaProperties) {
+    final var jpaDialect = new ReplicaCacheModeJpaDialect(hasReplicas());
+    final var adapter =
+        new HibernateJpaVendorAdapter() {
+          @Override
+          public HibernateJpaDialect getJpaDialect() {
+            return jpaDialect;
+          }
+        };
+    adapter.setShowSql(jpaProperties.isShowSql());
+    if (jpaProperties.getDatabase() != null) adapter.setDatabase(jpaProperties.getDatabase());
+    if (jpaProperties.getDatabasePlatform() != null)
+      adapter.setDatabasePlatform(jpaProperties.getDatabasePlatform());
+    adapter.setGenerateDdl(jpaProperties.isGenerateDdl());
+    return adapter;
+  }
+
+  private boolean hasReplicas() {
+    return replicaUrls.stream().anyMatch(url -> !url.isBlank());
+  }
+
+  private HikariDataSource createReplica(
+      HikariDataSource primaryDataSource, String url, MeterRegistry meterRegistry) {
+    final var replica = new HikariDataSource();
+    primaryDataSource.copyStateTo(replica);
+    replica.setPoolName("replica-" + replicas.size());
+    replica.setJdbcUrl(url);
+    replica.setUsername(replicaUsername);
+    replica.setPassword(replicaPassword);
+    if (meterRegistry != null)
+      replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+    return replica;
+  }
+
+  @Override
+  public void destroy() {
+    replicas.forEach(HikariDataSource::close);
+  }
+}
@@ -0,0 +1,49 @@
+package org.bootstrapbugz.api.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableScheduling
+public class ExecutorConfig {
+  @Value("${user-import.hashing-threads}")
+  private int hashingThreads;
+
+  @Value("${user-import.batch-size}")
+  private int batchSize;
+
+  @Value("${email.worker-threads}")
+  private int emailWorkerThreads;
+
+  @Value("${email.queue-capacity}")
+  private int emailQueueCapacity;
+
+  @Bean
+  public ThreadPoolTaskExecutor passwordHashingExecutor() {
+    final var executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(hashingThreads);
+    executor.setMaxPoolSize(hashingThreads);
+    executor.setQueueCapacity(batchSize);
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.setThreadNamePrefix("password-hashing-");
+    return executor;
+  }
+
+  @Bean
+  public ThreadPoolTaskExecutor emailExecutor() {
+    final var executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(emailWorkerThreads);
+    executor.setMaxPoolSize(emailWorkerThreads);
+    executor.setQueueCapacity(emailQueueCapacity);
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(30);
+    executor.setThreadNamePrefix("email-");
+    return executor;
+  }
+}
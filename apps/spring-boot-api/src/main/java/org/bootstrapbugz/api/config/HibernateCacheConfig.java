@@ -0,0 +1,33 @@
+package org.bootstrapbugz.api.config;
+
+import java.net.URISyntaxException;
+import java.util.Objects;
+
+import javax.cache.CacheManager;
+
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class HibernateCacheConfig {
+  @Value("${spring.jpa.properties.hibernate.javax.cache.uri}")
+  private String cacheUri;
+
+  // A provider of its own, so closing one context never closes the caches of another.
+  @Bean(destroyMethod = "close")
+  public CacheManager hibernateCacheManager() throws URISyntaxException {
+    final var classLoader = getClass().getClassLoader();
+    final var config = Objects.requireNonNull(classLoader.getResource(cacheUri), cacheUri);
+    return new EhcacheCachingProvider().getCacheManager(config.toURI(), classLoader);
+  }
+
+  @Bean
+  public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(
+      CacheManager hibernateCacheManager) {
+    return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+  }
+}
@@ -2,6 +2,7 @@ package org.bootstrapbugz.api.config;
 
 import java.util.Objects;
 
+import org.bootstrapbugz.api.shared.email.transport.PooledJavaMailSender;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -22,6 +23,12 @@ public class MailConfig {
   @Value("${spring.mail.password}")
   private String password;
 
+  @Value("${email.smtp.pool.max-connections}")
+  private int poolMaxConnections;
+
+  @Value("${email.smtp.pool.max-idle-in-ms}")
+  private long poolMaxIdleInMs;
+
   @Bean
   public JavaMailSender getJavaMailSender() {
     final var mailSender = createMailSender();
@@ -30,7 +37,7 @@ public class MailConfig {
   }
 
   private JavaMailSenderImpl createMailSender() {
-    final var mailSender = new JavaMailSenderImpl();
+    final var mailSender = new PooledJavaMailSender(poolMaxConnections, poolMaxIdleInMs);
     mailSender.setHost(host);
     mailSender.setPort(Integer.parseInt(Objects.requireNonNull(port)));
     mailSender.setUsername(username);
@@ -7,10 +7,12 @@ import org.springframework.context.support.ReloadableResourceBundleMessageSource
 
 @Configuration
 public class MessageSourceConfig {
+  public static final String BASENAME = "ValidationMessages";
+
   @Bean
   public MessageSource messageSource() {
     final var messageSource = new ReloadableResourceBundleMessageSource();
-    messageSource.setBasename("classpath:/ValidationMessages");
+    messageSource.setBasename("classpath:/" + BASENAME);
     messageSource.setDefaultEncoding("UTF-8");
     return messageSource;
   }
@@ -1,19 +1,39 @@
 package org.bootstrapbugz.api.config;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.Set;
 
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
+import io.lettuce.core.metrics.MicrometerCommandLatencyRecorder;
+import io.lettuce.core.metrics.MicrometerOptions;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.bootstrapbugz.api.shared.redis.InstrumentedJedisConnectionFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisConfiguration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisPassword;
+import org.springframework.data.redis.connection.RedisSentinelConfiguration;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.jedis.JedisClientConfiguration;
-import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisKeyValueAdapter.EnableKeyspaceEvents;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 
+import redis.clients.jedis.JedisPoolConfig;
+
 @Configuration
 @Profile({"dev", "prod"})
 @EnableRedisRepositories(enableKeyspaceEvents = EnableKeyspaceEvents.ON_STARTUP)
@@ -30,28 +50,137 @@ public class RedisConfig {
   @Value("${spring.redis.password}")
   private String password;
 
+  @Value("${spring.redis.sentinel.master:}")
+  private String sentinelMaster;
+
+  @Value("${spring.redis.sentinel.nodes:}")
+  private String[] sentinelNodes;
+
+  @Value("${spring.redis.cluster.nodes:}")
+  private String[] clusterNodes;
+
+  @Value("${spring.redis.cluster.max-redirects:3}")
+  private int maxRedirects;
+
+  @Value("${spring.redis.connect-timeout}")
+  private Duration connectTimeout;
+
   @Value("${spring.redis.timeout}")
-  private int timeout;
+  private Duration readTimeout;
 
-  @Bean
-  JedisConnectionFactory jedisConnectionFactory() {
+  @Value("${spring.redis.jedis.pool.max-active}")
+  private int maxActive;
+
+  @Value("${spring.redis.jedis.pool.max-idle}")
+  private int maxIdle;
+
+  @Value("${spring.redis.jedis.pool.min-idle}")
+  private int minIdle;
+
+  @Value("${spring.redis.jedis.pool.max-wait}")
+  private Duration maxWait;
+
+  @Value("${spring.redis.jedis.pool.time-between-eviction-runs}")
+  private Duration timeBetweenEvictionRuns;
+
+  private RedisStandaloneConfiguration redisStandaloneConfiguration() {
     final var redisStandaloneConfiguration = new RedisStandaloneConfiguration();
     redisStandaloneConfiguration.setHostName(host);
     redisStandaloneConfiguration.setPort(port);
     redisStandaloneConfiguration.setDatabase(database);
     redisStandaloneConfiguration.setPassword(RedisPassword.of(password));
+    return redisStandaloneConfiguration;
+  }
+
+  private RedisSentinelConfiguration redisSentinelConfiguration() {
+    final var redisSentinelConfiguration =
+        new RedisSentinelConfiguration(sentinelMaster, Set.of(sentinelNodes));
+    redisSentinelConfiguration.setDatabase(database);
+    redisSentinelConfiguration.setPassword(RedisPassword.of(password));
+    return redisSentinelConfiguration;
+  }
+
+  private RedisClusterConfiguration redisClusterConfiguration() {
+    final var redisClusterConfiguration = new RedisClusterConfiguration(List.of(clusterNodes));
+    redisClusterConfiguration.setMaxRedirects(maxRedirects);
+    redisClusterConfiguration.setPassword(RedisPassword.of(password));
+    return redisClusterConfiguration;
+  }
+
+  private boolean isSentinel() {
+    return !sentinelMaster.isBlank();
+  }
+
+  private boolean isCluster() {
+    return !isSentinel() && clusterNodes.length > 0;
+  }
+
+  private RedisConfiguration redisConfiguration() {
+    if (isSentinel()) return redisSentinelConfiguration();
+    if (isCluster()) return redisClusterConfiguration();
+    return redisStandaloneConfiguration();
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "spring.redis.client-type", havingValue = "jedis")
+  public InstrumentedJedisConnectionFactory jedisConnectionFactory() {
+    final var poolConfig = new JedisPoolConfig();
+    poolConfig.setMaxTotal(maxActive);
+    poolConfig.setMaxIdle(maxIdle);
+    poolConfig.setMinIdle(minIdle);
+    poolConfig.setMaxWaitMillis(maxWait.toMillis());
+    poolConfig.setTimeBetweenEvictionRunsMillis(timeBetweenEvictionRuns.toMillis());
 
     final var jedisClientConfiguration =
-        JedisClientConfiguration.builder().connectTimeout(Duration.ofSeconds(timeout));
+        JedisClientConfiguration.builder()
+            .connectTimeout(connectTimeout)
+            .readTimeout(readTimeout)
+            .usePooling()
+            .poolConfig(poolConfig);
+
+    if (isSentinel())
+      return new InstrumentedJedisConnectionFactory(
+          redisSentinelConfiguration(), jedisClientConfiguration.build());
+    if (isCluster())
+      return new InstrumentedJedisConnectionFactory(
+          redisClusterConfiguration(), jedisClientConfiguration.build());
+    return new InstrumentedJedisConnectionFactory(
+        redisStandaloneConfiguration(), jedisClientConfiguration.build());
+  }
+
+  @Bean(destroyMethod = "shutdown")
+  @ConditionalOnProperty(name = "spring.redis.client-type", havingValue = "lettuce")
+  public ClientResources lettuceClientResources(MeterRegistry meterRegistry) {
+    return DefaultClientResources.builder()
+        .commandLatencyRecorder(
+            new MicrometerCommandLatencyRecorder(meterRegistry, MicrometerOptions.create()))
+        .build();
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "spring.redis.client-type", havingValue = "lettuce")
+  public LettuceConnectionFactory lettuceConnectionFactory(ClientResources clientResources) {
+    final var lettuceClientConfiguration =
+        LettuceClientConfiguration.builder()
+            .clientResources(clientResources)
+            .clientOptions(
+                ClusterClientOptions.builder()
+                    .socketOptions(SocketOptions.builder().connectTimeout(connectTimeout).build())
+                    .topologyRefreshOptions(
+                        ClusterTopologyRefreshOptions.builder()
+                            .enableAllAdaptiveRefreshTriggers()
+                            .build())
+                    .build())
+            .commandTimeout(readTimeout);
 
-    return new JedisConnectionFactory(
-        redisStandaloneConfiguration, jedisClientConfiguration.build());
+    return new LettuceConnectionFactory(redisConfiguration(), lettuceClientConfiguration.build());
   }
 
   @Bean
-  public RedisTemplate<String, Object> redisTemplate() {
+  public RedisTemplate<String, Object> redisTemplate(
+      RedisConnectionFactory redisConnectionFactory) {
     final var template = new RedisTemplate<String, Object>();
-    template.setConnectionFactory(jedisConnectionFactory());
+    template.setConnectionFactory(redisConnectionFactory);
     return template;
   }
 }
@@ -1,12 +1,18 @@
 package org.bootstrapbugz.api.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 import org.bootstrapbugz.api.auth.security.JwtAuthenticationFilter;
 import org.bootstrapbugz.api.auth.security.JwtAuthorizationFilter;
+import org.bootstrapbugz.api.auth.security.TimedPasswordEncoder;
 import org.bootstrapbugz.api.auth.service.JwtService;
 import org.bootstrapbugz.api.shared.constants.Path;
 import org.bootstrapbugz.api.shared.error.handling.CustomAuthenticationEntryPoint;
+import org.bootstrapbugz.api.shared.error.handling.CustomFilterExceptionHandler;
 import org.bootstrapbugz.api.shared.message.service.MessageService;
+import org.bootstrapbugz.api.shared.timing.RequestTimer;
 import org.bootstrapbugz.api.user.mapper.UserMapper;
+import org.bootstrapbugz.api.user.model.Role.RoleName;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -33,28 +39,39 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
     Path.AUTH + "/login",
     Path.AUTH + "/refresh-token",
     Path.AUTH + "/sign-up",
+    Path.AUTH + "/availability",
     Path.AUTH + "/confirm-registration",
     Path.AUTH + "/resend-confirmation-email",
     Path.AUTH + "/forgot-password",
     Path.AUTH + "/reset-password"
   };
+  private static final String[] MANAGEMENT_WHITELIST = {"/actuator/health"};
   private final UserDetailsService userDetailsService;
   private final JwtService jwtService;
   private final UserMapper userMapper;
   private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
   private final MessageService messageService;
+  private final CustomFilterExceptionHandler customFilterExceptionHandler;
+  private final MeterRegistry meterRegistry;
+  private final RequestTimer requestTimer;
 
   public SecurityConfig(
       @Qualifier("userDetailsServiceImpl") UserDetailsService userDetailsService,
       JwtService jwtService,
       UserMapper userMapper,
       CustomAuthenticationEntryPoint customAuthenticationEntryPoint,
-      MessageService messageService) {
+      MessageService messageService,
+      CustomFilterExceptionHandler customFilterExceptionHandler,
+      MeterRegistry meterRegistry,
+      RequestTimer requestTimer) {
     this.userDetailsService = userDetailsService;
     this.jwtService = jwtService;
     this.userMapper = userMapper;
     this.customAuthenticationEntryPoint = customAuthenticationEntryPoint;
     this.messageService = messageService;
+    this.customFilterExceptionHandler = customFilterExceptionHandler;
+    this.meterRegistry = meterRegistry;
+    this.requestTimer = requestTimer;
   }
 
   @Override
@@ -70,7 +87,7 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
 
   @Bean
   public PasswordEncoder bCryptPasswordEncoder() {
-    return new BCryptPasswordEncoder();
+    return new TimedPasswordEncoder(new BCryptPasswordEncoder(), meterRegistry);
   }
 
   @Override
@@ -84,9 +101,20 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
         .and()
         .addFilter(
             new JwtAuthenticationFilter(
-                authenticationManager(), jwtService, userMapper, messageService))
+                authenticationManager(),
+                jwtService,
+                userMapper,
+                messageService,
+                customFilterExceptionHandler,
+                meterRegistry,
+                requestTimer))
         .addFilter(
-            new JwtAuthorizationFilter(authenticationManager(), jwtService, userDetailsService))
+            new JwtAuthorizationFilter(
+                authenticationManager(),
+                jwtService,
+                userDetailsService,
+                meterRegistry,
+                requestTimer))
         .exceptionHandling()
         .authenticationEntryPoint(customAuthenticationEntryPoint)
         .and()
@@ -95,6 +123,10 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
         .permitAll()
         .antMatchers(AUTH_WHITELIST)
         .permitAll()
+        .antMatchers(MANAGEMENT_WHITELIST)
+        .permitAll()
+        .antMatchers("/actuator/**")
+        .hasAuthority(RoleName.ADMIN.name())
         .anyRequest()
         .authenticated();
   }
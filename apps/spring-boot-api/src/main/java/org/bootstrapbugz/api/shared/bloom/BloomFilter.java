@@ -0,0 +1,66 @@
+package org.bootstrapbugz.api.shared.bloom;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.google.common.hash.Hashing;
+
+public class BloomFilter {
+  private final AtomicLongArray words;
+  private final long bitCount;
+  private final int hashCount;
+  private final AtomicLong setBits = new AtomicLong();
+
+  public BloomFilter(long expectedInsertions, double falsePositiveProbability) {
+    final long n = Math.max(1, expectedInsertions);
+    final long bits =
+        (long)
+            Math.ceil(-n * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+    this.words = new AtomicLongArray(Math.toIntExact(Math.max(1, (bits + 63) >>> 6)));
+    this.bitCount = (long) words.length() << 6;
+    this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+  }
+
+  public void put(String value) {
+    final long hash = hash(value);
+    final int h1 = (int) hash;
+    final int h2 = (int) (hash >>> 32);
+    for (var i = 1; i <= hashCount; i++) set(index(h1 + i * h2));
+  }
+
+  public boolean mightContain(String value) {
+    final long hash = hash(value);
+    final int h1 = (int) hash;
+    final int h2 = (int) (hash >>> 32);
+    for (var i = 1; i <= hashCount; i++) if (!get(index(h1 + i * h2))) return false;
+    return true;
+  }
+
+  public double getFillRatio() {
+    return (double) setBits.get() / bitCount;
+  }
+
+  private long hash(String value) {
+    return Hashing.murmur3_128().hashString(value, StandardCharsets.UTF_8).asLong();
+  }
+
+  private long index(int combinedHash) {
+    return (combinedHash & Integer.MAX_VALUE) % bitCount;
+  }
+
+  private boolean get(long index) {
+    return (words.get((int) (index >>> 6)) & (1L << index)) != 0;
+  }
+
+  private void set(long index) {
+    final var word = (int) (index >>> 6);
+    final long mask = 1L << index;
+    long current;
+    do {
+      current = words.get(word);
+      if ((current & mask) != 0) return;
+    } while (!words.compareAndSet(word, current, current | mask));
+    setBits.incrementAndGet();
+  }
+}
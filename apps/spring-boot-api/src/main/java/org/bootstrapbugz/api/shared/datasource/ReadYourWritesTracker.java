@@ -0,0 +1,22 @@
+package org.bootstrapbugz.api.shared.datasource;
+
+import java.time.Duration;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+public class ReadYourWritesTracker {
+  private final Cache<String, Boolean> recentWriters;
+
+  public ReadYourWritesTracker(Duration window) {
+    this.recentWriters = CacheBuilder.newBuilder().expireAfterWrite(window).build();
+  }
+
+  public void markWrite(String username) {
+    recentWriters.put(username, Boolean.TRUE);
+  }
+
+  public boolean isSticky(String username) {
+    return recentWriters.getIfPresent(username) != null;
+  }
+}
@@ -0,0 +1,32 @@
+package org.bootstrapbugz.api.shared.datasource;
+
+import java.sql.SQLException;
+
+import javax.persistence.EntityManager;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+
+/**
+ * Read-only transactions may be served by a lagging replica, so they only read from the
+ * second-level cache and never put into it. Otherwise a stale replica row would be served from
+ * the User, natural-id and query regions until it expires.
+ */
+public class ReplicaCacheModeJpaDialect extends HibernateJpaDialect {
+  private final boolean replicasEnabled;
+
+  public ReplicaCacheModeJpaDialect(boolean replicasEnabled) {
+    this.replicasEnabled = replicasEnabled;
+  }
+
+  @Override
+  public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+      throws SQLException {
+    final Object transactionData = super.beginTransaction(entityManager, definition);
+    if (replicasEnabled && definition.isReadOnly())
+      entityManager.unwrap(Session.class).setCacheMode(CacheMode.GET);
+    return transactionData;
+  }
+}
@@ -0,0 +1,52 @@
+package org.bootstrapbugz.api.shared.datasource;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+  private static final String PRIMARY = "primary";
+  private static final String REPLICA = "replica-";
+
+  private final int replicaCount;
+  private final ReadYourWritesTracker readYourWritesTracker;
+  private final AtomicInteger nextReplica = new AtomicInteger();
+
+  public ReplicaRoutingDataSource(
+      DataSource primary, List<DataSource> replicas, ReadYourWritesTracker readYourWritesTracker) {
+    this.replicaCount = replicas.size();
+    this.readYourWritesTracker = readYourWritesTracker;
+    final Map<Object, Object> targetDataSources = new HashMap<>();
+    targetDataSources.put(PRIMARY, primary);
+    for (var i = 0; i < replicas.size(); i++) targetDataSources.put(REPLICA + i, replicas.get(i));
+    setTargetDataSources(targetDataSources);
+    setDefaultTargetDataSource(primary);
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    final String username = findLoggedUsername();
+    if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      if (username != null && TransactionSynchronizationManager.isActualTransactionActive())
+        readYourWritesTracker.markWrite(username);
+      return PRIMARY;
+    }
+    if (replicaCount == 0 || (username != null && readYourWritesTracker.isSticky(username)))
+      return PRIMARY;
+    return REPLICA + Math.floorMod(nextReplica.getAndIncrement(), replicaCount);
+  }
+
+  private String findLoggedUsername() {
+    final var auth = SecurityContextHolder.getContext().getAuthentication();
+    if (auth == null || auth instanceof AnonymousAuthenticationToken) return null;
+    return auth.getName();
+  }
+}
@@ -0,0 +1,16 @@
+package org.bootstrapbugz.api.shared.email.model;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString(exclude = "body")
+public class EmailMessage {
+  private final String to;
+  private final String subject;
+  private final String body;
+}
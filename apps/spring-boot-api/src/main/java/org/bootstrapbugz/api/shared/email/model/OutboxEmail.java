@@ -0,0 +1,58 @@
+package org.bootstrapbugz.api.shared.email.model;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Instant;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+@Entity
+@Table(name = "email_outbox")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@Accessors(chain = true)
+public class OutboxEmail implements Serializable {
+  @Serial private static final long serialVersionUID = 5190466281837920414L;
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "email_outbox_id")
+  private Long id;
+
+  private String recipient;
+
+  private String subject;
+
+  private String body;
+
+  private int attempts = 0;
+
+  private Instant availableAt;
+
+  public static OutboxEmail of(EmailMessage message) {
+    return new OutboxEmail()
+        .setRecipient(message.getTo())
+        .setSubject(message.getSubject())
+        .setBody(message.getBody())
+        .setAvailableAt(Instant.now());
+  }
+
+  public EmailMessage toMessage() {
+    return new EmailMessage(recipient, subject, body);
+  }
+}
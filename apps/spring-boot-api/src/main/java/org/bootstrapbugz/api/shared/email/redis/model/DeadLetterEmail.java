@@ -0,0 +1,40 @@
+package org.bootstrapbugz.api.shared.email.redis.model;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.redis.core.RedisHash;
+import org.springframework.data.redis.core.TimeToLive;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@RedisHash(value = "DeadLetterEmail")
+public class DeadLetterEmail implements Serializable {
+  @Serial private static final long serialVersionUID = 2846263811738475530L;
+
+  @Id private String id;
+
+  private String to;
+
+  private String subject;
+
+  private String body;
+
+  private int attempts;
+
+  private String error;
+
+  private long failedAt;
+
+  @TimeToLive private long timeToLive;
+}
@@ -0,0 +1,8 @@
+package org.bootstrapbugz.api.shared.email.redis.repository;
+
+import org.bootstrapbugz.api.shared.email.redis.model.DeadLetterEmail;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DeadLetterEmailRepository extends CrudRepository<DeadLetterEmail, String> {}
@@ -0,0 +1,163 @@
+package org.bootstrapbugz.api.shared.email.relay;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import com.google.common.base.Suppliers;
+import com.google.common.collect.Lists;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.bootstrapbugz.api.shared.email.model.EmailMessage;
+import org.bootstrapbugz.api.shared.email.model.OutboxEmail;
+import org.bootstrapbugz.api.shared.email.redis.model.DeadLetterEmail;
+import org.bootstrapbugz.api.shared.email.redis.repository.DeadLetterEmailRepository;
+import org.bootstrapbugz.api.shared.email.repository.OutboxEmailRepository;
+import org.bootstrapbugz.api.shared.email.service.EmailService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class OutboxEmailRelay {
+  private static final long DEPTH_REFRESH_IN_SECS = 30;
+
+  @Value("${email.outbox.batch-size}")
+  private int batchSize;
+
+  @Value("${email.worker-threads}")
+  private int workerThreads;
+
+  @Value("${email.max-attempts}")
+  private int maxAttempts;
+
+  @Value("${email.initial-backoff-in-ms}")
+  private long initialBackoffInMs;
+
+  @Value("${email.dead-letter.ttl-in-secs}")
+  private long deadLetterTtlInSecs;
+
+  private final OutboxEmailRepository outboxEmailRepository;
+  private final DeadLetterEmailRepository deadLetterEmailRepository;
+  private final EmailService emailService;
+  private final TransactionTemplate transactionTemplate;
+  private final Executor emailExecutor;
+  private final Counter failureCounter;
+  private final Counter deadLetterCounter;
+  private final Timer lagTimer;
+  private final Supplier<Long> outboxDepth;
+
+  public OutboxEmailRelay(
+      OutboxEmailRepository outboxEmailRepository,
+      DeadLetterEmailRepository deadLetterEmailRepository,
+      EmailService emailService,
+      TransactionTemplate transactionTemplate,
+      @Qualifier("emailExecutor") Executor emailExecutor,
+      MeterRegistry meterRegistry) {
+    this.outboxEmailRepository = outboxEmailRepository;
+    this.deadLetterEmailRepository = deadLetterEmailRepository;
+    this.emailService = emailService;
+    this.transactionTemplate = transactionTemplate;
+    this.emailExecutor = emailExecutor;
+    this.failureCounter = meterRegistry.counter("email.send.failures");
+    this.deadLetterCounter = meterRegistry.counter("email.dead.letters");
+    this.lagTimer = meterRegistry.timer("email.outbox.lag");
+    this.outboxDepth =
+        Suppliers.memoizeWithExpiration(
+            outboxEmailRepository::count, DEPTH_REFRESH_IN_SECS, TimeUnit.SECONDS);
+    Gauge.builder("email.outbox.depth", outboxDepth, Supplier::get).register(meterRegistry);
+  }
+
+  @Scheduled(fixedDelayString = "${email.outbox.poll-interval-in-ms}")
+  public void relay() {
+    Integer claimed;
+    do {
+      claimed = transactionTemplate.execute(status -> relayBatch());
+    } while (claimed != null && claimed == batchSize);
+  }
+
+  private int relayBatch() {
+    final List<OutboxEmail> batch =
+        outboxEmailRepository.findAvailable(Instant.now(), PageRequest.of(0, batchSize));
+    final int chunkSize = Math.max(1, (batch.size() + workerThreads - 1) / workerThreads);
+    final List<CompletableFuture<Map<Long, String>>> results =
+        Lists.partition(batch, chunkSize).stream()
+            .map(chunk -> CompletableFuture.supplyAsync(() -> send(chunk), emailExecutor))
+            .collect(Collectors.toList());
+    final Map<Long, String> failures = new HashMap<>();
+    results.forEach(result -> failures.putAll(result.join()));
+    final List<OutboxEmail> done = new ArrayList<>(batch.size());
+    final Instant now = Instant.now();
+    for (var email : batch) {
+      final String error = failures.get(email.getId());
+      if (error == null) {
+        lagTimer.record(Duration.between(email.getAvailableAt(), now));
+        done.add(email);
+      } else if (email.getAttempts() + 1 >= maxAttempts) {
+        deadLetter(email, error);
+        done.add(email);
+      } else retryLater(email);
+    }
+    outboxEmailRepository.deleteAllInBatch(done);
+    return batch.size();
+  }
+
+  private Map<Long, String> send(List<OutboxEmail> chunk) {
+    final List<EmailMessage> messages =
+        chunk.stream().map(OutboxEmail::toMessage).collect(Collectors.toList());
+    final Map<Long, String> failures = new HashMap<>();
+    emailService
+        .sendHtmlEmails(messages)
+        .forEach((index, error) -> failures.put(chunk.get(index).getId(), error));
+    failureCounter.increment(failures.size());
+    return failures;
+  }
+
+  private void retryLater(OutboxEmail email) {
+    final long backoff = initialBackoffInMs << email.getAttempts();
+    email.setAttempts(email.getAttempts() + 1);
+    email.setAvailableAt(Instant.now().plusMillis(backoff));
+    log.warn(
+        "Sending {} failed on attempt {}, retrying in {} ms",
+        email.toMessage(),
+        email.getAttempts(),
+        backoff);
+  }
+
+  private void deadLetter(OutboxEmail email, String error) {
+    deadLetterCounter.increment();
+    log.error("Giving up on {} after {} attempts: {}", email.toMessage(), maxAttempts, error);
+    try {
+      deadLetterEmailRepository.save(
+          new DeadLetterEmail(
+              UUID.randomUUID().toString(),
+              email.getRecipient(),
+              email.getSubject(),
+              email.getBody(),
+              email.getAttempts() + 1,
+              error,
+              System.currentTimeMillis(),
+              deadLetterTtlInSecs));
+    } catch (RuntimeException e) {
+      log.error("Storing dead letter {} failed: {}", email.toMessage(), e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,26 @@
+package org.bootstrapbugz.api.shared.email.repository;
+
+import static org.hibernate.cfg.AvailableSettings.JPA_LOCK_TIMEOUT;
+
+import java.time.Instant;
+import java.util.List;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+
+import org.bootstrapbugz.api.shared.email.model.OutboxEmail;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface OutboxEmailRepository extends JpaRepository<OutboxEmail, Long> {
+  String SKIP_LOCKED = "-2";
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @QueryHints(@QueryHint(name = JPA_LOCK_TIMEOUT, value = SKIP_LOCKED))
+  @Query("SELECT e FROM OutboxEmail e WHERE e.availableAt <= :now ORDER BY e.id")
+  List<OutboxEmail> findAvailable(@Param("now") Instant now, Pageable pageable);
+}
@@ -0,0 +1,7 @@
+package org.bootstrapbugz.api.shared.email.service;
+
+import org.bootstrapbugz.api.shared.email.model.EmailMessage;
+
+public interface EmailDispatcher {
+  void dispatch(EmailMessage message);
+}
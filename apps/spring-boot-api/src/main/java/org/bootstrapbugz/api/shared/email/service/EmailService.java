@@ -1,5 +1,13 @@
 package org.bootstrapbugz.api.shared.email.service;
 
+import java.util.List;
+import java.util.Map;
+
+import org.bootstrapbugz.api.shared.email.model.EmailMessage;
+
 public interface EmailService {
   void sendHtmlEmail(String to, String subject, String body);
+
+  /** Returns the failure message of each message that was not sent, keyed by its list index. */
+  Map<Integer, String> sendHtmlEmails(List<EmailMessage> messages);
 }
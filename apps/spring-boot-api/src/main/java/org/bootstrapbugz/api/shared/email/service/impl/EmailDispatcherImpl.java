@@ -0,0 +1,23 @@
+package org.bootstrapbugz.api.shared.email.service.impl;
+
+import org.bootstrapbugz.api.shared.email.model.EmailMessage;
+import org.bootstrapbugz.api.shared.email.model.OutboxEmail;
+import org.bootstrapbugz.api.shared.email.repository.OutboxEmailRepository;
+import org.bootstrapbugz.api.shared.email.service.EmailDispatcher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class EmailDispatcherImpl implements EmailDispatcher {
+  private final OutboxEmailRepository outboxEmailRepository;
+
+  public EmailDispatcherImpl(OutboxEmailRepository outboxEmailRepository) {
+    this.outboxEmailRepository = outboxEmailRepository;
+  }
+
+  @Override
+  @Transactional
+  public void dispatch(EmailMessage message) {
+    outboxEmailRepository.save(OutboxEmail.of(message));
+  }
+}
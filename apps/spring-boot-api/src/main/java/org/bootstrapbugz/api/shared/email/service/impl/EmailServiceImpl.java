@@ -1,10 +1,23 @@
 package org.bootstrapbugz.api.shared.email.service.impl;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 
 import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.bootstrapbugz.api.shared.email.model.EmailMessage;
 import org.bootstrapbugz.api.shared.email.service.EmailService;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
@@ -15,22 +28,84 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 public class EmailServiceImpl implements EmailService {
   private final JavaMailSender mailSender;
+  private final Timer sendTimer;
+  private final Counter sentCounter;
+  private final Counter failedCounter;
 
-  public EmailServiceImpl(JavaMailSender mailSender) {
+  public EmailServiceImpl(JavaMailSender mailSender, MeterRegistry meterRegistry) {
     this.mailSender = mailSender;
+    this.sendTimer = meterRegistry.timer("email.smtp.send");
+    this.sentCounter = meterRegistry.counter("email.smtp.messages", "outcome", "sent");
+    this.failedCounter = meterRegistry.counter("email.smtp.messages", "outcome", "failed");
   }
 
   @Override
   public void sendHtmlEmail(String to, String subject, String body) {
+    final var sample = Timer.start();
     try {
-      final var mimeMessage = mailSender.createMimeMessage();
-      final var helper = new MimeMessageHelper(mimeMessage, StandardCharsets.UTF_8.name());
-      helper.setTo(to);
-      helper.setSubject(subject);
-      helper.setText(body, true);
-      mailSender.send(mimeMessage);
+      mailSender.send(createMimeMessage(new EmailMessage(to, subject, body)));
+      sentCounter.increment();
     } catch (MessagingException e) {
+      failedCounter.increment();
       log.error(e.getMessage());
+    } catch (MailException e) {
+      failedCounter.increment();
+      throw e;
+    } finally {
+      sample.stop(sendTimer);
+    }
+  }
+
+  @Override
+  public Map<Integer, String> sendHtmlEmails(List<EmailMessage> messages) {
+    final Map<Integer, String> failures = new HashMap<>();
+    final Map<MimeMessage, Integer> sources = new IdentityHashMap<>(messages.size());
+    final List<MimeMessage> mimeMessages = new ArrayList<>(messages.size());
+    for (var i = 0; i < messages.size(); i++) {
+      try {
+        final var mimeMessage = createMimeMessage(messages.get(i));
+        sources.put(mimeMessage, i);
+        mimeMessages.add(mimeMessage);
+      } catch (MessagingException e) {
+        failures.put(i, String.valueOf(e.getMessage()));
+      }
+    }
+    if (mimeMessages.isEmpty()) return record(messages.size(), failures);
+    final var sample = Timer.start();
+    try {
+      mailSender.send(mimeMessages.toArray(MimeMessage[]::new));
+    } catch (MailSendException e) {
+      if (e.getFailedMessages().isEmpty()) failAll(sources, failures, e);
+      else
+        e.getFailedMessages()
+            .forEach(
+                (mimeMessage, cause) ->
+                    failures.put(sources.get(mimeMessage), String.valueOf(cause.getMessage())));
+    } catch (MailException e) {
+      failAll(sources, failures, e);
+    } finally {
+      sample.stop(sendTimer);
     }
+    return record(messages.size(), failures);
+  }
+
+  private Map<Integer, String> record(int total, Map<Integer, String> failures) {
+    sentCounter.increment(total - failures.size());
+    failedCounter.increment(failures.size());
+    return failures;
+  }
+
+  private void failAll(
+      Map<MimeMessage, Integer> sources, Map<Integer, String> failures, Exception e) {
+    sources.values().forEach(index -> failures.put(index, String.valueOf(e.getMessage())));
+  }
+
+  private MimeMessage createMimeMessage(EmailMessage message) throws MessagingException {
+    final var mimeMessage = mailSender.createMimeMessage();
+    final var helper = new MimeMessageHelper(mimeMessage, StandardCharsets.UTF_8.name());
+    helper.setTo(message.getTo());
+    helper.setSubject(message.getSubject());
+    helper.setText(message.getBody(), true);
+    return mimeMessage;
   }
 }
@@ -0,0 +1,85 @@
+package org.bootstrapbugz.api.shared.email.template;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.util.StreamUtils;
+
+public final class EmailTemplate {
+  private static final char PLACEHOLDER_PREFIX = '$';
+
+  private final String[] literals;
+  private final int[] slots;
+  private final int literalsLength;
+
+  private EmailTemplate(String[] literals, int[] slots) {
+    this.literals = literals;
+    this.slots = slots;
+    var length = 0;
+    for (var literal : literals) length += literal.length();
+    this.literalsLength = length;
+  }
+
+  public static EmailTemplate load(
+      String location, Map<String, String> constants, String... slots) {
+    try (var inputStream = new ClassPathResource(location).getInputStream()) {
+      final String source = StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8);
+      return compile(source, constants, slots);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to load email template " + location, e);
+    }
+  }
+
+  public static EmailTemplate compile(
+      String source, Map<String, String> constants, String... slots) {
+    final List<String> literals = new ArrayList<>();
+    final List<Integer> slotIndexes = new ArrayList<>();
+    final var literal = new StringBuilder();
+    var i = 0;
+    while (i < source.length()) {
+      final char c = source.charAt(i);
+      final int end = c == PLACEHOLDER_PREFIX ? identifierEnd(source, i + 1) : i + 1;
+      if (end == i + 1) {
+        literal.append(c);
+        i++;
+        continue;
+      }
+      final String name = source.substring(i + 1, end);
+      final int slot = indexOf(slots, name);
+      if (slot >= 0) {
+        literals.add(literal.toString());
+        literal.setLength(0);
+        slotIndexes.add(slot);
+      } else literal.append(constants.getOrDefault(name, source.substring(i, end)));
+      i = end;
+    }
+    literals.add(literal.toString());
+    return new EmailTemplate(
+        literals.toArray(String[]::new),
+        slotIndexes.stream().mapToInt(Integer::intValue).toArray());
+  }
+
+  private static int identifierEnd(String source, int start) {
+    var end = start;
+    while (end < source.length() && Character.isLetterOrDigit(source.charAt(end))) end++;
+    return end;
+  }
+
+  private static int indexOf(String[] slots, String name) {
+    for (var i = 0; i < slots.length; i++) if (slots[i].equals(name)) return i;
+    return -1;
+  }
+
+  public String render(String... values) {
+    var length = literalsLength;
+    for (var slot : slots) length += values[slot].length();
+    final var builder = new StringBuilder(length);
+    for (var i = 0; i < slots.length; i++) builder.append(literals[i]).append(values[slots[i]]);
+    return builder.append(literals[slots.length]).toString();
+  }
+}
@@ -0,0 +1,31 @@
+package org.bootstrapbugz.api.shared.email.transport;
+
+import javax.mail.MessagingException;
+import javax.mail.Transport;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.annotation.Scheduled;
+
+public class PooledJavaMailSender extends JavaMailSenderImpl implements DisposableBean {
+  private final SmtpTransportPool pool;
+
+  public PooledJavaMailSender(int maxConnections, long maxIdleInMs) {
+    this.pool = new SmtpTransportPool(super::connectTransport, maxConnections, maxIdleInMs);
+  }
+
+  @Override
+  protected Transport connectTransport() throws MessagingException {
+    return new PooledTransport(getSession(), pool, pool.borrow());
+  }
+
+  @Scheduled(fixedDelayString = "${email.smtp.pool.max-idle-in-ms}")
+  public void evictIdleConnections() {
+    pool.evictIdle();
+  }
+
+  @Override
+  public void destroy() {
+    pool.close();
+  }
+}
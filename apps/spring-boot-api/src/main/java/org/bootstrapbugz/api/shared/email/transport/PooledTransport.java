@@ -0,0 +1,50 @@
+package org.bootstrapbugz.api.shared.email.transport;
+
+import javax.mail.Address;
+import javax.mail.Message;
+import javax.mail.MessagingException;
+import javax.mail.SendFailedException;
+import javax.mail.Session;
+import javax.mail.Transport;
+
+class PooledTransport extends Transport {
+  private final SmtpTransportPool pool;
+  private final Transport delegate;
+  private boolean broken = false;
+  private boolean released = false;
+
+  PooledTransport(Session session, SmtpTransportPool pool, Transport delegate) {
+    super(session, delegate.getURLName());
+    this.pool = pool;
+    this.delegate = delegate;
+  }
+
+  @Override
+  protected boolean protocolConnect(String host, int port, String user, String password) {
+    return true;
+  }
+
+  @Override
+  public void sendMessage(Message message, Address[] addresses) throws MessagingException {
+    try {
+      delegate.sendMessage(message, addresses);
+    } catch (SendFailedException e) {
+      throw e;
+    } catch (MessagingException | RuntimeException e) {
+      broken = true;
+      throw e;
+    }
+  }
+
+  @Override
+  public synchronized boolean isConnected() {
+    return !released && !broken;
+  }
+
+  @Override
+  public synchronized void close() {
+    if (released) return;
+    released = true;
+    pool.release(delegate, !broken);
+  }
+}
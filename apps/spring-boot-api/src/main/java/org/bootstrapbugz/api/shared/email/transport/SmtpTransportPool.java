@@ -0,0 +1,114 @@
+package org.bootstrapbugz.api.shared.email.transport;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Semaphore;
+
+import javax.mail.MessagingException;
+import javax.mail.Transport;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class SmtpTransportPool {
+  private final Connector connector;
+  private final long maxIdleInMs;
+  private final Semaphore permits;
+  private final Deque<IdleTransport> idle = new ArrayDeque<>();
+  private boolean closed = false;
+
+  public SmtpTransportPool(Connector connector, int maxSize, long maxIdleInMs) {
+    this.connector = connector;
+    this.maxIdleInMs = maxIdleInMs;
+    this.permits = new Semaphore(maxSize, true);
+  }
+
+  public Transport borrow() throws MessagingException {
+    try {
+      permits.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new MessagingException("Interrupted while waiting for an SMTP connection", e);
+    }
+    try {
+      IdleTransport entry;
+      while ((entry = pollIdle()) != null) {
+        if (!isExpired(entry, System.currentTimeMillis()) && entry.transport.isConnected())
+          return entry.transport;
+        closeQuietly(entry.transport);
+      }
+      return connector.connect();
+    } catch (MessagingException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  public void release(Transport transport, boolean reusable) {
+    try {
+      synchronized (this) {
+        if (reusable && !closed) {
+          idle.addFirst(new IdleTransport(transport, System.currentTimeMillis()));
+          return;
+        }
+      }
+      closeQuietly(transport);
+    } finally {
+      permits.release();
+    }
+  }
+
+  public void evictIdle() {
+    final long now = System.currentTimeMillis();
+    IdleTransport entry;
+    while ((entry = pollExpired(now)) != null) closeQuietly(entry.transport);
+  }
+
+  public void close() {
+    synchronized (this) {
+      closed = true;
+    }
+    IdleTransport entry;
+    while ((entry = pollIdle()) != null) closeQuietly(entry.transport);
+  }
+
+  public synchronized int getIdleCount() {
+    return idle.size();
+  }
+
+  private synchronized IdleTransport pollIdle() {
+    return idle.pollFirst();
+  }
+
+  private synchronized IdleTransport pollExpired(long now) {
+    final var oldest = idle.peekLast();
+    return oldest != null && isExpired(oldest, now) ? idle.pollLast() : null;
+  }
+
+  private boolean isExpired(IdleTransport entry, long now) {
+    return now - entry.idleSince >= maxIdleInMs;
+  }
+
+  private void closeQuietly(Transport transport) {
+    try {
+      transport.close();
+    } catch (MessagingException e) {
+      log.warn("Closing SMTP connection failed: {}", e.getMessage());
+    }
+  }
+
+  @FunctionalInterface
+  public interface Connector {
+    Transport connect() throws MessagingException;
+  }
+
+  private static final class IdleTransport {
+    private final Transport transport;
+    private final long idleSince;
+
+    private IdleTransport(Transport transport, long idleSince) {
+      this.transport = transport;
+      this.idleSince = idleSince;
+    }
+  }
+}
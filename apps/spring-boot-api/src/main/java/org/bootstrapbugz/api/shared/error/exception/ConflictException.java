@@ -0,0 +1,13 @@
+package org.bootstrapbugz.api.shared.error.exception;
+
+import java.io.Serial;
+
+import org.bootstrapbugz.api.shared.error.ErrorDomain;
+
+public class ConflictException extends DomainException {
+  @Serial private static final long serialVersionUID = 4617330927530488362L;
+
+  public ConflictException(String message, ErrorDomain domain) {
+    super(message, domain);
+  }
+}
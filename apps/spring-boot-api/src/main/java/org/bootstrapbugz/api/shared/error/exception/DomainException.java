@@ -0,0 +1,18 @@
+package org.bootstrapbugz.api.shared.error.exception;
+
+import java.io.Serial;
+
+import org.bootstrapbugz.api.shared.error.ErrorDomain;
+
+import lombok.Getter;
+
+@Getter
+public abstract class DomainException extends RuntimeException {
+  @Serial private static final long serialVersionUID = -2208459466150254171L;
+  private final ErrorDomain domain;
+
+  protected DomainException(String message, ErrorDomain domain) {
+    super(message, null, false, false);
+    this.domain = domain;
+  }
+}
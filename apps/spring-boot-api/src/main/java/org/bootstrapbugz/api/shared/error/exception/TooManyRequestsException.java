@@ -0,0 +1,13 @@
+package org.bootstrapbugz.api.shared.error.exception;
+
+import java.io.Serial;
+
+import org.bootstrapbugz.api.shared.error.ErrorDomain;
+
+public class TooManyRequestsException extends DomainException {
+  @Serial private static final long serialVersionUID = 3962731985613304762L;
+
+  public TooManyRequestsException(String message, ErrorDomain domain) {
+    super(message, domain);
+  }
+}
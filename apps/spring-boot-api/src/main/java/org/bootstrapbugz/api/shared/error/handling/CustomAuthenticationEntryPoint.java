@@ -6,9 +6,8 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.bootstrapbugz.api.shared.error.ErrorDomain;
-import org.bootstrapbugz.api.shared.error.response.ErrorResponse;
+import org.bootstrapbugz.api.shared.error.response.ErrorPayloadCache;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
@@ -18,16 +17,18 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @Component
 public class CustomAuthenticationEntryPoint implements AuthenticationEntryPoint {
+  private final ErrorPayloadCache errorPayloadCache;
+
+  public CustomAuthenticationEntryPoint(ErrorPayloadCache errorPayloadCache) {
+    this.errorPayloadCache = errorPayloadCache;
+  }
+
   @Override
   public void commence(
       HttpServletRequest request, HttpServletResponse response, AuthenticationException e) {
     try {
-      final var errorResponse =
-          new ErrorResponse(
-              HttpStatus.FORBIDDEN, ErrorDomain.AUTH, HttpStatus.FORBIDDEN.getReasonPhrase());
-      response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-      response.setStatus(HttpStatus.FORBIDDEN.value());
-      response.getOutputStream().println(errorResponse.toString());
+      errorPayloadCache.write(
+          response, HttpStatus.FORBIDDEN, ErrorDomain.AUTH, HttpStatus.FORBIDDEN.getReasonPhrase());
     } catch (IOException ex) {
       log.error(ex.getMessage());
     }
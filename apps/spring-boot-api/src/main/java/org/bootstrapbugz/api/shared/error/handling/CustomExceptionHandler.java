@@ -10,11 +10,15 @@ import com.auth0.jwt.exceptions.JWTVerificationException;
 
 import org.bootstrapbugz.api.shared.error.ErrorDomain;
 import org.bootstrapbugz.api.shared.error.exception.BadRequestException;
+import org.bootstrapbugz.api.shared.error.exception.ConflictException;
 import org.bootstrapbugz.api.shared.error.exception.ForbiddenException;
 import org.bootstrapbugz.api.shared.error.exception.ResourceNotFoundException;
+import org.bootstrapbugz.api.shared.error.exception.TooManyRequestsException;
+import org.bootstrapbugz.api.shared.error.response.ErrorPayloadCache;
 import org.bootstrapbugz.api.shared.error.response.ErrorResponse;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.access.AccessDeniedException;
@@ -29,6 +33,12 @@ import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExcep
 
 @ControllerAdvice
 public class CustomExceptionHandler extends ResponseEntityExceptionHandler {
+  private final ErrorPayloadCache errorPayloadCache;
+
+  public CustomExceptionHandler(ErrorPayloadCache errorPayloadCache) {
+    this.errorPayloadCache = errorPayloadCache;
+  }
+
   @Override
   @Nonnull
   protected ResponseEntity<Object> handleMethodArgumentNotValid(
@@ -59,19 +69,37 @@ public class CustomExceptionHandler extends ResponseEntityExceptionHandler {
     return new ResponseEntity<>(errorResponse, new HttpHeaders(), status);
   }
 
+  private ResponseEntity<Object> createCachedErrorResponseEntity(
+      ErrorDomain domain, String message, HttpStatus status) {
+    return ResponseEntity.status(status)
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(errorPayloadCache.get(status, domain, message));
+  }
+
   @ExceptionHandler({ResourceNotFoundException.class})
   public ResponseEntity<Object> resourceNotFound(ResourceNotFoundException ex) {
-    return createErrorResponseEntity(ex.getDomain(), ex.getMessage(), HttpStatus.NOT_FOUND);
+    return createCachedErrorResponseEntity(ex.getDomain(), ex.getMessage(), HttpStatus.NOT_FOUND);
   }
 
   @ExceptionHandler({BadRequestException.class})
   public ResponseEntity<Object> badRequest(BadRequestException ex) {
-    return createErrorResponseEntity(ex.getDomain(), ex.getMessage(), HttpStatus.BAD_REQUEST);
+    return createCachedErrorResponseEntity(ex.getDomain(), ex.getMessage(), HttpStatus.BAD_REQUEST);
+  }
+
+  @ExceptionHandler({ConflictException.class})
+  public ResponseEntity<Object> conflict(ConflictException ex) {
+    return createCachedErrorResponseEntity(ex.getDomain(), ex.getMessage(), HttpStatus.CONFLICT);
+  }
+
+  @ExceptionHandler({TooManyRequestsException.class})
+  public ResponseEntity<Object> tooManyRequests(TooManyRequestsException ex) {
+    return createCachedErrorResponseEntity(
+        ex.getDomain(), ex.getMessage(), HttpStatus.TOO_MANY_REQUESTS);
   }
 
   @ExceptionHandler({ForbiddenException.class})
   public ResponseEntity<Object> forbidden(ForbiddenException ex) {
-    return createErrorResponseEntity(ex.getDomain(), ex.getMessage(), HttpStatus.FORBIDDEN);
+    return createCachedErrorResponseEntity(ex.getDomain(), ex.getMessage(), HttpStatus.FORBIDDEN);
   }
 
   @ExceptionHandler({
@@ -81,7 +109,7 @@ public class CustomExceptionHandler extends ResponseEntityExceptionHandler {
     IllegalArgumentException.class
   })
   public ResponseEntity<Object> jwt() {
-    return createErrorResponseEntity(
+    return createCachedErrorResponseEntity(
         ErrorDomain.AUTH, HttpStatus.FORBIDDEN.getReasonPhrase(), HttpStatus.FORBIDDEN);
   }
 
@@ -92,7 +120,8 @@ public class CustomExceptionHandler extends ResponseEntityExceptionHandler {
 
   @ExceptionHandler({AccessDeniedException.class})
   public ResponseEntity<Object> handleAccessDeniedException(AccessDeniedException ex) {
-    return createErrorResponseEntity(ErrorDomain.AUTH, ex.getMessage(), HttpStatus.UNAUTHORIZED);
+    return createCachedErrorResponseEntity(
+        ErrorDomain.AUTH, ex.getMessage(), HttpStatus.UNAUTHORIZED);
   }
 
   @Override
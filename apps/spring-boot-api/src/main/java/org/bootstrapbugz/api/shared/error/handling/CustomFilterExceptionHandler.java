@@ -5,25 +5,24 @@ import java.io.IOException;
 import javax.servlet.http.HttpServletResponse;
 
 import org.bootstrapbugz.api.shared.error.ErrorDomain;
-import org.bootstrapbugz.api.shared.error.response.ErrorResponse;
+import org.bootstrapbugz.api.shared.error.response.ErrorPayloadCache;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Component
-public final class CustomFilterExceptionHandler {
-  private CustomFilterExceptionHandler() {}
+public class CustomFilterExceptionHandler {
+  private final ErrorPayloadCache errorPayloadCache;
 
-  public static void handleException(HttpServletResponse response, String message) {
+  public CustomFilterExceptionHandler(ErrorPayloadCache errorPayloadCache) {
+    this.errorPayloadCache = errorPayloadCache;
+  }
+
+  public void handleException(HttpServletResponse response, String message) {
     try {
-      final var errorResponse =
-          new ErrorResponse(HttpStatus.UNAUTHORIZED, ErrorDomain.AUTH, message);
-      response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-      response.setStatus(HttpStatus.UNAUTHORIZED.value());
-      response.getOutputStream().println(errorResponse.toString());
+      errorPayloadCache.write(response, HttpStatus.UNAUTHORIZED, ErrorDomain.AUTH, message);
     } catch (IOException e) {
       log.error(e.getMessage());
     }
@@ -0,0 +1,126 @@
+package org.bootstrapbugz.api.shared.error.response;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+
+import javax.servlet.http.HttpServletResponse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.CacheBuilder;
+
+import org.bootstrapbugz.api.shared.error.ErrorDomain;
+import org.bootstrapbugz.api.shared.message.service.MessageService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ErrorPayloadCache {
+  private static final DateTimeFormatter TIMESTAMP_FORMAT =
+      DateTimeFormatter.ofPattern("dd-MM-yyyy hh:mm:ss");
+  private static final String TIMESTAMP_FIELD = "\"timestamp\":\"";
+
+  private final ObjectMapper objectMapper;
+  private final MessageService messageService;
+  private final Map<List<Object>, Template> templates;
+  private volatile Timestamp timestamp = new Timestamp(-1, new byte[0]);
+
+  public ErrorPayloadCache(
+      ObjectMapper objectMapper,
+      MessageService messageService,
+      @Value("${error.payload-cache.max-size}") long maxSize) {
+    this.objectMapper = objectMapper;
+    this.messageService = messageService;
+    this.templates =
+        CacheBuilder.newBuilder().maximumSize(maxSize).<List<Object>, Template>build().asMap();
+  }
+
+  public byte[] get(HttpStatus status, ErrorDomain domain, String message) {
+    if (!isCacheable(status, message))
+      return serialize(new ErrorResponse(status, domain, message)).getBytes(StandardCharsets.UTF_8);
+    final var template =
+        templates.computeIfAbsent(
+            List.of(status, domain, String.valueOf(message)),
+            key -> compile(new ErrorResponse(status, domain, message)));
+    if (template.suffix == null) return template.prefix;
+    final byte[] now = currentTimestamp();
+    final var payload = new byte[template.prefix.length + now.length + template.suffix.length];
+    System.arraycopy(template.prefix, 0, payload, 0, template.prefix.length);
+    System.arraycopy(now, 0, payload, template.prefix.length, now.length);
+    System.arraycopy(
+        template.suffix, 0, payload, template.prefix.length + now.length, template.suffix.length);
+    return payload;
+  }
+
+  public void write(
+      HttpServletResponse response, HttpStatus status, ErrorDomain domain, String message)
+      throws IOException {
+    final byte[] payload = get(status, domain, message);
+    response.setStatus(status.value());
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.setContentLength(payload.length);
+    response.getOutputStream().write(payload);
+  }
+
+  // Dynamic messages, such as exception texts, would only fill the cache with one-off entries.
+  private boolean isCacheable(HttpStatus status, String message) {
+    return messageService.isResolvedMessage(message) || status.getReasonPhrase().equals(message);
+  }
+
+  private String serialize(ErrorResponse errorResponse) {
+    try {
+      return objectMapper.writeValueAsString(errorResponse);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private Template compile(ErrorResponse errorResponse) {
+    final String json = serialize(errorResponse);
+    final int start = json.indexOf(TIMESTAMP_FIELD);
+    if (start < 0) return new Template(json.getBytes(StandardCharsets.UTF_8), null);
+    final int valueStart = start + TIMESTAMP_FIELD.length();
+    return new Template(
+        json.substring(0, valueStart).getBytes(StandardCharsets.UTF_8),
+        json.substring(json.indexOf('"', valueStart)).getBytes(StandardCharsets.UTF_8));
+  }
+
+  private byte[] currentTimestamp() {
+    final long second = System.currentTimeMillis() / 1000;
+    var current = timestamp;
+    if (current.second != second) {
+      current =
+          new Timestamp(
+              second,
+              LocalDateTime.now().format(TIMESTAMP_FORMAT).getBytes(StandardCharsets.UTF_8));
+      timestamp = current;
+    }
+    return current.value;
+  }
+
+  private static final class Template {
+    private final byte[] prefix;
+    private final byte[] suffix;
+
+    private Template(byte[] prefix, byte[] suffix) {
+      this.prefix = prefix;
+      this.suffix = suffix;
+    }
+  }
+
+  private static final class Timestamp {
+    private final long second;
+    private final byte[] value;
+
+    private Timestamp(long second, byte[] value) {
+      this.second = second;
+      this.value = value;
+    }
+  }
+}
@@ -2,4 +2,6 @@ package org.bootstrapbugz.api.shared.message.service;
 
 public interface MessageService {
   String getMessage(String code);
+
+  boolean isResolvedMessage(String message);
 }
@@ -1,20 +1,86 @@
 package org.bootstrapbugz.api.shared.message.service.impl;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.bootstrapbugz.api.config.MessageSourceConfig;
 import org.bootstrapbugz.api.shared.message.service.MessageService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.MessageSource;
+import org.springframework.context.NoSuchMessageException;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
 import org.springframework.stereotype.Service;
 
 @Service
 public class MessageServiceImpl implements MessageService {
   private final MessageSource messageSource;
+  private final Map<Locale, Map<String, String>> catalog;
+  private final Map<String, String> defaultMessages;
+  private final Set<String> resolvedMessages;
 
-  public MessageServiceImpl(MessageSource messageSource) {
+  public MessageServiceImpl(
+      MessageSource messageSource,
+      @Value("${message.supported-locales}") String[] supportedLocales) {
     this.messageSource = messageSource;
+    final var codes = loadCodes();
+    final Map<Locale, Map<String, String>> resolved = new HashMap<>();
+    for (var tag : supportedLocales) {
+      final var locale = Locale.forLanguageTag(tag.trim());
+      resolved.put(locale, resolve(codes, locale));
+    }
+    this.catalog = Map.copyOf(resolved);
+    this.defaultMessages =
+        supportedLocales.length == 0
+            ? Map.of()
+            : catalog.get(Locale.forLanguageTag(supportedLocales[0].trim()));
+    this.resolvedMessages =
+        catalog.values().stream()
+            .flatMap(messages -> messages.values().stream())
+            .collect(Collectors.toUnmodifiableSet());
+  }
+
+  private Properties loadCodes() {
+    try {
+      return PropertiesLoaderUtils.loadProperties(
+          new ClassPathResource(MessageSourceConfig.BASENAME + ".properties"));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private Map<String, String> resolve(Properties codes, Locale locale) {
+    final Map<String, String> messages = new HashMap<>();
+    for (var code : codes.stringPropertyNames()) {
+      try {
+        final String message = messageSource.getMessage(code, null, locale);
+        if (message != null) messages.put(code, message);
+      } catch (NoSuchMessageException ignore) {
+        // left to the MessageSource fallback on lookup
+      }
+    }
+    return Map.copyOf(messages);
   }
 
   @Override
   public String getMessage(String code) {
-    return messageSource.getMessage(code, null, LocaleContextHolder.getLocale());
+    final var locale = LocaleContextHolder.getLocale();
+    var messages = catalog.get(locale);
+    if (messages == null) messages = catalog.get(Locale.forLanguageTag(locale.getLanguage()));
+    if (messages == null) messages = defaultMessages;
+    final String message = messages.get(code);
+    return message != null ? message : messageSource.getMessage(code, null, locale);
+  }
+
+  @Override
+  public boolean isResolvedMessage(String message) {
+    return resolvedMessages.contains(message);
   }
 }
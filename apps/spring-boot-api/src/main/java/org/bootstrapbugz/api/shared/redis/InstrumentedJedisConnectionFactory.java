@@ -0,0 +1,112 @@
+package org.bootstrapbugz.api.shared.redis;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.ToDoubleFunction;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisSentinelConfiguration;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.jedis.JedisClientConfiguration;
+import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisCluster;
+import redis.clients.jedis.util.Pool;
+
+public class InstrumentedJedisConnectionFactory extends JedisConnectionFactory
+    implements MeterBinder {
+  private volatile Pool<Jedis> pool;
+  private volatile JedisCluster cluster;
+
+  public InstrumentedJedisConnectionFactory(
+      RedisStandaloneConfiguration standaloneConfiguration,
+      JedisClientConfiguration clientConfiguration) {
+    super(standaloneConfiguration, clientConfiguration);
+  }
+
+  public InstrumentedJedisConnectionFactory(
+      RedisSentinelConfiguration sentinelConfiguration,
+      JedisClientConfiguration clientConfiguration) {
+    super(sentinelConfiguration, clientConfiguration);
+  }
+
+  public InstrumentedJedisConnectionFactory(
+      RedisClusterConfiguration clusterConfiguration,
+      JedisClientConfiguration clientConfiguration) {
+    super(clusterConfiguration, clientConfiguration);
+  }
+
+  @Override
+  protected Pool<Jedis> createRedisPool() {
+    pool = super.createRedisPool();
+    return pool;
+  }
+
+  @Override
+  protected Pool<Jedis> createRedisSentinelPool(RedisSentinelConfiguration config) {
+    pool = super.createRedisSentinelPool(config);
+    return pool;
+  }
+
+  @Override
+  @SuppressWarnings("rawtypes")
+  protected JedisCluster createCluster(
+      RedisClusterConfiguration clusterConfig, GenericObjectPoolConfig poolConfig) {
+    cluster = super.createCluster(clusterConfig, poolConfig);
+    return cluster;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    gauge(registry, "redis.pool.active", Pool::getNumActive);
+    gauge(registry, "redis.pool.idle", Pool::getNumIdle);
+    gauge(registry, "redis.pool.pending", Pool::getNumWaiters);
+    Gauge.builder("redis.pool.max", this, InstrumentedJedisConnectionFactory::getMaxTotal)
+        .register(registry);
+    timeGauge(registry, "redis.pool.wait.mean", Pool::getMeanBorrowWaitTimeMillis);
+    timeGauge(registry, "redis.pool.wait.max", Pool::getMaxBorrowWaitTimeMillis);
+  }
+
+  private double getMaxTotal() {
+    if (getPoolConfig() == null) return 0;
+    return getPoolConfig().getMaxTotal() * (double) Math.max(1, pools().size());
+  }
+
+  private void gauge(MeterRegistry registry, String name, ToDoubleFunction<Pool<Jedis>> value) {
+    Gauge.builder(name, this, factory -> factory.poolValue(value, Double::sum))
+        .register(registry);
+  }
+
+  private void timeGauge(
+      MeterRegistry registry, String name, ToDoubleFunction<Pool<Jedis>> valueInMs) {
+    TimeGauge.builder(
+            name, this, TimeUnit.MILLISECONDS, factory -> factory.poolValue(valueInMs, Math::max))
+        .register(registry);
+  }
+
+  // A cluster keeps one pool per node, so counts are summed and wait times take the worst node.
+  private Collection<? extends Pool<Jedis>> pools() {
+    final var currentCluster = cluster;
+    if (currentCluster != null) return currentCluster.getClusterNodes().values();
+    final var current = pool;
+    return current == null ? List.of() : List.of(current);
+  }
+
+  private double poolValue(ToDoubleFunction<Pool<Jedis>> value, DoubleBinaryOperator combiner) {
+    double result = 0;
+    for (var current : pools()) {
+      if (current.isClosed()) continue;
+      result = combiner.applyAsDouble(result, value.applyAsDouble(current));
+    }
+    return result;
+  }
+}
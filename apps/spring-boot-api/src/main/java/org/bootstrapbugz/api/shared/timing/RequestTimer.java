@@ -0,0 +1,42 @@
+package org.bootstrapbugz.api.shared.timing;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.springframework.cloud.sleuth.Span;
+import org.springframework.cloud.sleuth.Tracer;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RequestTimer {
+  private final Tracer tracer;
+
+  public RequestTimer(Optional<Tracer> tracer) {
+    this.tracer = tracer.orElse(null);
+  }
+
+  public void time(String phase, Runnable action) {
+    time(
+        phase,
+        () -> {
+          action.run();
+          return null;
+        });
+  }
+
+  public <T> T time(String phase, Supplier<T> action) {
+    final var serverTiming = ServerTiming.current();
+    if (tracer == null && serverTiming == null) return action.get();
+    final Span span = tracer != null ? tracer.nextSpan().name(phase).start() : null;
+    final long start = System.nanoTime();
+    try (Tracer.SpanInScope ignored = span != null ? tracer.withSpan(span) : null) {
+      return action.get();
+    } catch (RuntimeException e) {
+      if (span != null) span.error(e);
+      throw e;
+    } finally {
+      if (serverTiming != null) serverTiming.record(phase, System.nanoTime() - start);
+      if (span != null) span.end();
+    }
+  }
+}
@@ -0,0 +1,52 @@
+package org.bootstrapbugz.api.shared.timing;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class ServerTiming {
+  private static final ThreadLocal<ServerTiming> CURRENT = new ThreadLocal<>();
+
+  private final long startedAt = System.nanoTime();
+  private final Map<String, Long> durations = new LinkedHashMap<>();
+  private long bodyWriteStartedAt;
+
+  public static ServerTiming start() {
+    final var serverTiming = new ServerTiming();
+    CURRENT.set(serverTiming);
+    return serverTiming;
+  }
+
+  public static void clear() {
+    CURRENT.remove();
+  }
+
+  public static ServerTiming current() {
+    return CURRENT.get();
+  }
+
+  public void record(String phase, long durationInNanos) {
+    durations.merge(phase, durationInNanos, Long::sum);
+  }
+
+  public void markBodyWrite() {
+    if (bodyWriteStartedAt != 0) return;
+    bodyWriteStartedAt = System.nanoTime();
+    record("handler", bodyWriteStartedAt - startedAt);
+  }
+
+  public String toHeaderValue() {
+    final long now = System.nanoTime();
+    final Map<String, Long> phases = new LinkedHashMap<>(durations);
+    if (bodyWriteStartedAt != 0) phases.merge("serialization", now - bodyWriteStartedAt, Long::sum);
+    phases.merge("total", now - startedAt, Long::sum);
+    return phases.entrySet().stream()
+        .map(entry -> entry.getKey() + ";dur=" + toMillis(entry.getValue()))
+        .collect(Collectors.joining(", "));
+  }
+
+  private String toMillis(long durationInNanos) {
+    return String.format(Locale.ROOT, "%.2f", durationInNanos / 1_000_000.0);
+  }
+}
@@ -0,0 +1,57 @@
+package org.bootstrapbugz.api.shared.timing;
+
+import java.io.IOException;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "server-timing.enabled", havingValue = "true")
+public class ServerTimingFilter extends OncePerRequestFilter {
+  public static final String HEADER = "Server-Timing";
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+      throws ServletException, IOException {
+    final var serverTiming = ServerTiming.start();
+    final var wrapper = new ServerTimingResponseWrapper(response, serverTiming);
+    try {
+      chain.doFilter(request, wrapper);
+    } finally {
+      wrapper.writeHeader();
+      ServerTiming.clear();
+    }
+  }
+
+  private static class ServerTimingResponseWrapper extends OnCommittedResponseWrapper {
+    private final ServerTiming serverTiming;
+    private boolean written;
+
+    ServerTimingResponseWrapper(HttpServletResponse response, ServerTiming serverTiming) {
+      super(response);
+      this.serverTiming = serverTiming;
+    }
+
+    @Override
+    protected void onResponseCommitted() {
+      writeHeader();
+    }
+
+    void writeHeader() {
+      if (written || isCommitted()) return;
+      written = true;
+      setHeader(HEADER, serverTiming.toHeaderValue());
+    }
+  }
+}
@@ -0,0 +1,36 @@
+package org.bootstrapbugz.api.shared.timing;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+@ControllerAdvice
+public class ServerTimingResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+  @Override
+  public boolean supports(
+      MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+    return ServerTiming.current() != null;
+  }
+
+  @Override
+  public Object beforeBodyWrite(
+      Object body,
+      MethodParameter returnType,
+      MediaType selectedContentType,
+      Class<? extends HttpMessageConverter<?>> selectedConverterType,
+      ServerHttpRequest request,
+      ServerHttpResponse response) {
+    final var serverTiming = ServerTiming.current();
+    if (serverTiming == null) return body;
+    serverTiming.markBodyWrite();
+    // A body larger than the response buffer commits the response without notifying the filter,
+    // so the header is set here too. The filter replaces it with the serialization time included
+    // whenever the response is still uncommitted after the write.
+    response.getHeaders().set(ServerTimingFilter.HEADER, serverTiming.toHeaderValue());
+    return body;
+  }
+}
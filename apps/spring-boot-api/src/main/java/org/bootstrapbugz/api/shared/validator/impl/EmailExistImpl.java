@@ -4,16 +4,16 @@ import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
 
 import org.bootstrapbugz.api.shared.validator.EmailExist;
-import org.bootstrapbugz.api.user.repository.UserRepository;
+import org.bootstrapbugz.api.user.service.UserExistenceService;
 
 public class EmailExistImpl implements ConstraintValidator<EmailExist, String> {
-  private final UserRepository userRepository;
+  private final UserExistenceService userExistenceService;
 
-  public EmailExistImpl(UserRepository userRepository) {
-    this.userRepository = userRepository;
+  public EmailExistImpl(UserExistenceService userExistenceService) {
+    this.userExistenceService = userExistenceService;
   }
 
   public boolean isValid(String email, ConstraintValidatorContext context) {
-    return !userRepository.existsByEmail(email);
+    return !userExistenceService.existsByEmail(email);
   }
 }
@@ -1,31 +1,72 @@
 package org.bootstrapbugz.api.shared.validator.impl;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Objects;
+
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
 
-import org.apache.commons.beanutils.BeanUtils;
 import org.bootstrapbugz.api.shared.validator.FieldMatch;
 
 public class FieldMatchImpl implements ConstraintValidator<FieldMatch, Object> {
-  private String firstFieldName;
-  private String secondFieldName;
+  private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
+  private ClassValue<Accessors> accessors;
 
   @Override
   public void initialize(FieldMatch constraint) {
-    firstFieldName = constraint.first();
-    secondFieldName = constraint.second();
+    final String firstFieldName = constraint.first();
+    final String secondFieldName = constraint.second();
+    accessors =
+        new ClassValue<>() {
+          @Override
+          protected Accessors computeValue(Class<?> type) {
+            return new Accessors(
+                findGetter(type, firstFieldName), findGetter(type, secondFieldName));
+          }
+        };
   }
 
   public boolean isValid(Object obj, ConstraintValidatorContext context) {
+    if (obj == null) return true;
+    final var pair = accessors.get(obj.getClass());
+    if (pair.first == null || pair.second == null) return true;
+    return Objects.equals(get(pair.first, obj), get(pair.second, obj));
+  }
+
+  private static MethodHandle findGetter(Class<?> type, String fieldName) {
+    final String suffix = Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+    for (var prefix : new String[] {"get", "is"}) {
+      try {
+        return MethodHandles.publicLookup()
+            .unreflect(type.getMethod(prefix + suffix))
+            .asType(ACCESSOR_TYPE);
+      } catch (NoSuchMethodException | IllegalAccessException ignore) {
+        // try the next accessor prefix
+      }
+    }
+    return null;
+  }
+
+  private static Object get(MethodHandle getter, Object obj) {
     try {
-      final Object firstObj = BeanUtils.getProperty(obj, firstFieldName);
-      final Object secondObj = BeanUtils.getProperty(obj, secondFieldName);
+      return (Object) getter.invokeExact(obj);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static final class Accessors {
+    private final MethodHandle first;
+    private final MethodHandle second;
 
-      return firstObj == null && secondObj == null
-          || firstObj != null && firstObj.equals(secondObj);
-    } catch (final Exception ignore) {
-      // no need to do anything
+    private Accessors(MethodHandle first, MethodHandle second) {
+      this.first = first;
+      this.second = second;
     }
-    return true;
   }
 }
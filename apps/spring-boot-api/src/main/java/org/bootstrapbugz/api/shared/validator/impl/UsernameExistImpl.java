@@ -4,16 +4,16 @@ import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
 
 import org.bootstrapbugz.api.shared.validator.UsernameExist;
-import org.bootstrapbugz.api.user.repository.UserRepository;
+import org.bootstrapbugz.api.user.service.UserExistenceService;
 
 public class UsernameExistImpl implements ConstraintValidator<UsernameExist, String> {
-  private final UserRepository userRepository;
+  private final UserExistenceService userExistenceService;
 
-  public UsernameExistImpl(UserRepository userRepository) {
-    this.userRepository = userRepository;
+  public UsernameExistImpl(UserExistenceService userExistenceService) {
+    this.userExistenceService = userExistenceService;
   }
 
   public boolean isValid(String username, ConstraintValidatorContext context) {
-    return !userRepository.existsByUsername(username);
+    return !userExistenceService.existsByUsername(username);
   }
 }
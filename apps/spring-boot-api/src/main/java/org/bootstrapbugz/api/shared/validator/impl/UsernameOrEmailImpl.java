@@ -10,8 +10,10 @@ import org.bootstrapbugz.api.shared.constants.Regex;
 import org.bootstrapbugz.api.shared.validator.UsernameOrEmail;
 
 public class UsernameOrEmailImpl implements ConstraintValidator<UsernameOrEmail, String> {
+  private static final Pattern USERNAME = Pattern.compile(Regex.USERNAME);
+  private static final EmailValidator EMAIL = EmailValidator.getInstance();
+
   public boolean isValid(String usernameOrEmail, ConstraintValidatorContext context) {
-    return Pattern.compile(Regex.USERNAME).matcher(usernameOrEmail).matches()
-        || EmailValidator.getInstance().isValid(usernameOrEmail);
+    return USERNAME.matcher(usernameOrEmail).matches() || EMAIL.isValid(usernameOrEmail);
   }
 }
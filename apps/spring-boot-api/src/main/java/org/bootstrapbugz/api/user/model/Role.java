@@ -2,35 +2,94 @@ package org.bootstrapbugz.api.user.model;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 
-import javax.persistence.Column;
-import javax.persistence.Entity;
-import javax.persistence.EnumType;
-import javax.persistence.Enumerated;
-import javax.persistence.Id;
-import javax.persistence.Table;
+import org.springframework.security.core.GrantedAuthority;
 
-import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.NoArgsConstructor;
 
-@Entity
-@Table(name = "roles")
 @Getter
-@NoArgsConstructor
-@AllArgsConstructor
 @EqualsAndHashCode
-public class Role implements Serializable {
+public final class Role implements GrantedAuthority, Serializable {
   @Serial private static final long serialVersionUID = 3717126169522609755L;
 
-  @Id
-  @Enumerated(EnumType.STRING)
-  @Column(name = "role_name")
-  private RoleName name;
+  private static final Map<RoleName, Role> CATALOG = new EnumMap<>(RoleName.class);
+  private static final Set<Role>[] ROLE_SETS;
 
+  static {
+    for (var name : RoleName.values()) CATALOG.put(name, new Role(name));
+    ROLE_SETS = createRoleSets();
+  }
+
+  private final RoleName name;
+
+  private Role(RoleName name) {
+    this.name = name;
+  }
+
+  public static Role of(RoleName name) {
+    return CATALOG.get(name);
+  }
+
+  public static Set<Role> setOf(RoleName... names) {
+    var bits = 0;
+    for (var name : names) bits |= name.getBit();
+    return fromBits(bits);
+  }
+
+  public static Set<Role> setOf(Collection<RoleName> names) {
+    var bits = 0;
+    for (var name : names) bits |= name.getBit();
+    return fromBits(bits);
+  }
+
+  public static int toBits(Collection<Role> roles) {
+    var bits = 0;
+    for (var role : roles) bits |= role.getName().getBit();
+    return bits;
+  }
+
+  public static Set<Role> fromBits(int bits) {
+    if (bits < 0 || bits >= ROLE_SETS.length)
+      throw new IllegalArgumentException("Unknown role bits: " + bits);
+    return ROLE_SETS[bits];
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Set<Role>[] createRoleSets() {
+    final Set<Role>[] roleSets = new Set[1 << RoleName.values().length];
+    for (var bits = 0; bits < roleSets.length; bits++) {
+      final Set<Role> roles = new HashSet<>();
+      for (var name : RoleName.values()) if ((bits & name.getBit()) != 0) roles.add(of(name));
+      roleSets[bits] = Set.copyOf(roles);
+    }
+    return roleSets;
+  }
+
+  @Override
+  public String getAuthority() {
+    return name.name();
+  }
+
+  @Serial
+  private Object readResolve() {
+    return of(name);
+  }
+
+  @Getter
   public enum RoleName {
-    USER,
-    ADMIN
+    USER(1),
+    ADMIN(1 << 1);
+
+    private final int bit;
+
+    RoleName(int bit) {
+      this.bit = bit;
+    }
   }
 }
@@ -0,0 +1,19 @@
+package org.bootstrapbugz.api.user.model;
+
+import java.util.Set;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+
+@Converter
+public class RoleSetConverter implements AttributeConverter<Set<Role>, Integer> {
+  @Override
+  public Integer convertToDatabaseColumn(Set<Role> roles) {
+    return roles == null ? 0 : Role.toBits(roles);
+  }
+
+  @Override
+  public Set<Role> convertToEntityAttribute(Integer bits) {
+    return Role.fromBits(bits == null ? 0 : bits);
+  }
+}
@@ -0,0 +1,9 @@
+package org.bootstrapbugz.api.user.repository;
+
+import java.util.List;
+
+import org.bootstrapbugz.api.user.model.User;
+
+public interface UserBatchRepository {
+  void batchInsert(List<User> users);
+}
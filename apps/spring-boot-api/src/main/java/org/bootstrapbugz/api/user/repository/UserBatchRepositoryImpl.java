@@ -0,0 +1,62 @@
+package org.bootstrapbugz.api.user.repository;
+
+import java.util.List;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+
+import org.bootstrapbugz.api.user.model.Role;
+import org.bootstrapbugz.api.user.model.User;
+import org.hibernate.SessionFactory;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class UserBatchRepositoryImpl implements UserBatchRepository {
+  private static final String INSERT_USER =
+      "INSERT INTO users "
+          + "(first_name, last_name, username, email, password, activated, non_locked, roles) "
+          + "VALUES (:firstName, :lastName, :username, :email, :password, :activated, :nonLocked, "
+          + ":roles)";
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+  private final EntityManagerFactory entityManagerFactory;
+
+  public UserBatchRepositoryImpl(DataSource dataSource, EntityManagerFactory entityManagerFactory) {
+    this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    this.entityManagerFactory = entityManagerFactory;
+  }
+
+  @Override
+  @Transactional
+  public void batchInsert(List<User> users) {
+    if (users.isEmpty()) return;
+    jdbcTemplate.batchUpdate(
+        INSERT_USER, users.stream().map(this::toParameters).toArray(MapSqlParameterSource[]::new));
+    // JDBC writes bypass Hibernate's update timestamps, so cached queries are dropped once the rows
+    // are visible; evicting earlier lets a concurrent query cache the pre-insert result again.
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            final var cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+            cache.evictQueryRegions();
+            cache.evictEntityData(User.class);
+          }
+        });
+  }
+
+  private MapSqlParameterSource toParameters(User user) {
+    return new MapSqlParameterSource()
+        .addValue("firstName", user.getFirstName())
+        .addValue("lastName", user.getLastName())
+        .addValue("username", user.getUsername())
+        .addValue("email", user.getEmail())
+        .addValue("password", user.getPassword())
+        .addValue("activated", user.isActivated())
+        .addValue("nonLocked", user.isNonLocked())
+        .addValue("roles", Role.toBits(user.getRoles()));
+  }
+}
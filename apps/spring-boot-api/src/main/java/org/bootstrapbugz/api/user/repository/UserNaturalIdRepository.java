@@ -0,0 +1,11 @@
+package org.bootstrapbugz.api.user.repository;
+
+import java.util.Optional;
+
+import org.bootstrapbugz.api.user.model.User;
+
+public interface UserNaturalIdRepository {
+  Optional<User> findByUsername(String username);
+
+  Optional<User> findByUsernameOrEmail(String username, String email);
+}
@@ -0,0 +1,37 @@
+package org.bootstrapbugz.api.user.repository;
+
+import java.util.Optional;
+
+import javax.persistence.EntityManager;
+
+import org.bootstrapbugz.api.user.model.User;
+import org.hibernate.Session;
+import org.hibernate.jpa.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
+
+public class UserNaturalIdRepositoryImpl implements UserNaturalIdRepository {
+  private final EntityManager entityManager;
+
+  public UserNaturalIdRepositoryImpl(EntityManager entityManager) {
+    this.entityManager = entityManager;
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Optional<User> findByUsername(String username) {
+    return entityManager.unwrap(Session.class).bySimpleNaturalId(User.class).loadOptional(username);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Optional<User> findByUsernameOrEmail(String username, String email) {
+    final var user = findByUsername(username);
+    if (user.isPresent()) return user;
+    return entityManager
+        .createQuery("SELECT u FROM User u WHERE u.email = :email", User.class)
+        .setParameter("email", email)
+        .setHint(QueryHints.HINT_CACHEABLE, true)
+        .getResultStream()
+        .findFirst();
+  }
+}
@@ -1,26 +1,46 @@
 package org.bootstrapbugz.api.user.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+import javax.persistence.QueryHint;
+
 import org.bootstrapbugz.api.user.model.User;
+import org.bootstrapbugz.api.user.response.UserResponse;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
-
-public interface UserRepository extends JpaRepository<User, Long> {
-  @Query("SELECT DISTINCT u FROM User u LEFT JOIN FETCH u.roles")
-  List<User> findAllWithRoles();
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface UserRepository
+    extends JpaRepository<User, Long>, UserBatchRepository, UserNaturalIdRepository {
+  @Query(
+      "SELECT new org.bootstrapbugz.api.user.response.UserResponse("
+          + "u.id, u.firstName, u.lastName, u.username, u.email, u.activated, u.nonLocked, "
+          + "u.roles) FROM User u ORDER BY u.id")
+  List<UserResponse> findAllUserResponses();
+
+  @Query(
+      "SELECT new org.bootstrapbugz.api.user.response.UserResponse("
+          + "u.id, u.firstName, u.lastName, u.username, u.email, u.activated, u.nonLocked) "
+          + "FROM User u WHERE u.username = :username")
+  Optional<UserResponse> findUserResponseByUsername(@Param("username") String username);
 
   List<User> findAllByUsernameIn(Set<String> usernames);
 
+  @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
   Optional<User> findByEmail(String email);
 
-  Optional<User> findByUsername(String username);
-
-  Optional<User> findByUsernameOrEmail(String username, String email);
-
   boolean existsByEmail(String email);
 
   boolean existsByUsername(String username);
+
+  @Query("SELECT u.username FROM User u WHERE u.username IN :usernames")
+  Set<String> findUsernamesIn(@Param("usernames") Set<String> usernames);
+
+  @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+  Set<String> findEmailsIn(@Param("emails") Set<String> emails);
 }
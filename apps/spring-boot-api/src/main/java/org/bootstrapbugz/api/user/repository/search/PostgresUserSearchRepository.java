@@ -0,0 +1,63 @@
+package org.bootstrapbugz.api.user.repository.search;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.bootstrapbugz.api.user.response.UserResponse;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+@Profile("!test")
+public class PostgresUserSearchRepository implements UserSearchRepository {
+  // One OR across four columns under ORDER BY user_id LIMIT lets the planner walk the primary key
+  // and filter every row. Matching per column keeps each branch on its own trigram index, and
+  // applying the keyset and limit inside every branch stops a page from collecting all matches.
+  private static final String SEARCH =
+      matchColumn("username")
+          + " UNION "
+          + matchColumn("email")
+          + " UNION "
+          + matchColumn("first_name")
+          + " UNION "
+          + matchColumn("last_name")
+          + " ORDER BY user_id LIMIT :limit";
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+  private final UserResponseRowMapper rowMapper = new UserResponseRowMapper();
+
+  public PostgresUserSearchRepository(DataSource dataSource) {
+    this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<UserResponse> search(String query, long afterId, int limit) {
+    final String normalized = query.toLowerCase();
+    return jdbcTemplate.query(
+        SEARCH,
+        new MapSqlParameterSource()
+            .addValue("afterId", afterId)
+            .addValue("prefix", escapeLike(normalized) + "%")
+            .addValue("query", normalized)
+            .addValue("limit", limit),
+        rowMapper);
+  }
+
+  private String escapeLike(String value) {
+    return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+  }
+
+  private static String matchColumn(String column) {
+    return String.format(
+        "(SELECT "
+            + UserResponseRowMapper.COLUMNS
+            + " FROM users WHERE (lower(%1$s) LIKE :prefix ESCAPE '\\' "
+            + "OR lower(%1$s) %% :query) AND user_id > :afterId ORDER BY user_id LIMIT :limit)",
+        column);
+  }
+}
@@ -0,0 +1,26 @@
+package org.bootstrapbugz.api.user.repository.search;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.bootstrapbugz.api.user.model.Role;
+import org.bootstrapbugz.api.user.response.UserResponse;
+import org.springframework.jdbc.core.RowMapper;
+
+class UserResponseRowMapper implements RowMapper<UserResponse> {
+  static final String COLUMNS =
+      "user_id, first_name, last_name, username, email, activated, non_locked, roles";
+
+  @Override
+  public UserResponse mapRow(ResultSet rs, int rowNum) throws SQLException {
+    return new UserResponse(
+        rs.getLong("user_id"),
+        rs.getString("first_name"),
+        rs.getString("last_name"),
+        rs.getString("username"),
+        rs.getString("email"),
+        rs.getBoolean("activated"),
+        rs.getBoolean("non_locked"),
+        Role.fromBits(rs.getInt("roles")));
+  }
+}
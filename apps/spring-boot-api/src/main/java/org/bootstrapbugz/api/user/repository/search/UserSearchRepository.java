@@ -0,0 +1,9 @@
+package org.bootstrapbugz.api.user.repository.search;
+
+import java.util.List;
+
+import org.bootstrapbugz.api.user.response.UserResponse;
+
+public interface UserSearchRepository {
+  List<UserResponse> search(String query, long afterId, int limit);
+}
@@ -1,8 +1,10 @@
 package org.bootstrapbugz.api.user.response;
 
 import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.bootstrapbugz.api.user.model.Role;
 
-import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -12,7 +14,6 @@ import lombok.experimental.Accessors;
 @Getter
 @Setter
 @NoArgsConstructor
-@AllArgsConstructor
 @EqualsAndHashCode
 @Accessors(chain = true)
 public class UserResponse {
@@ -24,4 +25,37 @@ public class UserResponse {
   private boolean activated;
   private boolean nonLocked;
   private Set<RoleResponse> roles;
+
+  public UserResponse(
+      Long id,
+      String firstName,
+      String lastName,
+      String username,
+      String email,
+      boolean activated,
+      boolean nonLocked) {
+    this.id = id;
+    this.firstName = firstName;
+    this.lastName = lastName;
+    this.username = username;
+    this.email = email;
+    this.activated = activated;
+    this.nonLocked = nonLocked;
+  }
+
+  public UserResponse(
+      Long id,
+      String firstName,
+      String lastName,
+      String username,
+      String email,
+      boolean activated,
+      boolean nonLocked,
+      Set<Role> roles) {
+    this(id, firstName, lastName, username, email, activated, nonLocked);
+    this.roles =
+        roles.stream()
+            .map(role -> new RoleResponse(role.getName().name()))
+            .collect(Collectors.toSet());
+  }
 }
@@ -0,0 +1,15 @@
+package org.bootstrapbugz.api.user.service;
+
+import org.bootstrapbugz.api.user.model.User;
+
+public interface UserExistenceService {
+  boolean existsByUsername(String username);
+
+  boolean existsByEmail(String email);
+
+  void add(User user);
+
+  double getFillRatio();
+
+  void rebuild();
+}
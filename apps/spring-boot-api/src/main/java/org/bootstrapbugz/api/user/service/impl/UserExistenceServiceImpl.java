@@ -0,0 +1,197 @@
+package org.bootstrapbugz.api.user.service.impl;
+
+import java.util.Locale;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.bootstrapbugz.api.shared.bloom.BloomFilter;
+import org.bootstrapbugz.api.user.model.User;
+import org.bootstrapbugz.api.user.repository.UserRepository;
+import org.bootstrapbugz.api.user.service.UserExistenceService;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class UserExistenceServiceImpl
+    implements UserExistenceService, PostInsertEventListener, PostUpdateEventListener {
+  private static final String USERNAME_PREFIX = "u:";
+  private static final String EMAIL_PREFIX = "e:";
+  private static final long KEYS_PER_USER = 2;
+  private static final long SIZING_HEADROOM = 2;
+
+  @Value("${user.membership-filter.expected-insertions}")
+  private long expectedInsertions;
+
+  @Value("${user.membership-filter.false-positive-probability}")
+  private double falsePositiveProbability;
+
+  @Value("${user.membership-filter.max-fill-ratio}")
+  private double maxFillRatio;
+
+  @Value("${user.membership-filter.max-age-in-ms}")
+  private long maxAgeInMs;
+
+  @Value("${user.membership-filter.fetch-size}")
+  private int fetchSize;
+
+  private final UserRepository userRepository;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final Counter skippedCounter;
+  private final Object lock = new Object();
+  private volatile BloomFilter filter;
+  private BloomFilter building;
+  private volatile long builtAt;
+
+  public UserExistenceServiceImpl(
+      UserRepository userRepository,
+      DataSource dataSource,
+      TransactionTemplate transactionTemplate,
+      EntityManagerFactory entityManagerFactory,
+      MeterRegistry meterRegistry) {
+    this.userRepository = userRepository;
+    this.jdbcTemplate = new JdbcTemplate(dataSource);
+    this.transactionTemplate = transactionTemplate;
+    this.skippedCounter = meterRegistry.counter("user.membership.filter.skipped.queries");
+    Gauge.builder("user.membership.filter.fill.ratio", this, UserExistenceService::getFillRatio)
+        .register(meterRegistry);
+    final var listenerRegistry =
+        entityManagerFactory
+            .unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .getService(EventListenerRegistry.class);
+    listenerRegistry.appendListeners(EventType.POST_INSERT, this);
+    listenerRegistry.appendListeners(EventType.POST_UPDATE, this);
+  }
+
+  @Override
+  public boolean existsByUsername(String username) {
+    if (isDefinitelyAbsent(USERNAME_PREFIX + normalize(username))) return false;
+    return userRepository.existsByUsername(username);
+  }
+
+  @Override
+  public boolean existsByEmail(String email) {
+    if (isDefinitelyAbsent(EMAIL_PREFIX + normalize(email))) return false;
+    return userRepository.existsByEmail(email);
+  }
+
+  private boolean isDefinitelyAbsent(String key) {
+    final var current = filter;
+    if (current == null || current.mightContain(key)) return false;
+    skippedCounter.increment();
+    return true;
+  }
+
+  @Override
+  public void add(User user) {
+    synchronized (lock) {
+      put(filter, user.getUsername(), user.getEmail());
+      put(building, user.getUsername(), user.getEmail());
+    }
+  }
+
+  private void put(BloomFilter target, String username, String email) {
+    if (target == null) return;
+    if (username != null) target.put(USERNAME_PREFIX + normalize(username));
+    if (email != null) target.put(EMAIL_PREFIX + normalize(email));
+  }
+
+  private String normalize(String value) {
+    return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+  }
+
+  @Override
+  public double getFillRatio() {
+    final var current = filter;
+    return current == null ? 0 : current.getFillRatio();
+  }
+
+  @Override
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuild() {
+    final var rebuilt = new BloomFilter(sizeFor(countUsers()), falsePositiveProbability);
+    synchronized (lock) {
+      building = rebuilt;
+    }
+    try {
+      transactionTemplate.executeWithoutResult(
+          status -> {
+            jdbcTemplate.setFetchSize(fetchSize);
+            jdbcTemplate.query(
+                "SELECT username, email FROM users",
+                (RowCallbackHandler) rs -> put(rebuilt, rs.getString(1), rs.getString(2)));
+          });
+      synchronized (lock) {
+        filter = rebuilt;
+        builtAt = System.currentTimeMillis();
+      }
+      log.info("Rebuilt user membership filter, fill ratio {}", rebuilt.getFillRatio());
+    } finally {
+      synchronized (lock) {
+        building = null;
+      }
+    }
+  }
+
+  // Sized from the table, so a grown table never rebuilds past max-fill-ratio.
+  private long sizeFor(long users) {
+    return Math.max(expectedInsertions, users * KEYS_PER_USER * SIZING_HEADROOM);
+  }
+
+  private long countUsers() {
+    final Long users = jdbcTemplate.queryForObject("SELECT count(*) FROM users", Long.class);
+    return users == null ? 0 : users;
+  }
+
+  @Scheduled(fixedDelayString = "${user.membership-filter.check-interval-in-ms}")
+  public void rebuildIfDegraded() {
+    if (filter == null) return;
+    if (getFillRatio() > maxFillRatio || System.currentTimeMillis() - builtAt > maxAgeInMs)
+      rebuild();
+  }
+
+  @Override
+  public void onPostInsert(PostInsertEvent event) {
+    if (event.getEntity() instanceof User user) add(user);
+  }
+
+  @Override
+  public void onPostUpdate(PostUpdateEvent event) {
+    if (event.getEntity() instanceof User user) add(user);
+  }
+
+  @Override
+  public boolean requiresPostCommitHandling(EntityPersister persister) {
+    return false;
+  }
+
+  /** Still abstract in Hibernate 5.4, so it delegates to its replacement. */
+  @Override
+  @Deprecated
+  public boolean requiresPostCommitHanding(EntityPersister persister) {
+    return requiresPostCommitHandling(persister);
+  }
+}
@@ -14,10 +14,12 @@ import org.bootstrapbugz.api.user.repository.UserRepository;
 import org.bootstrapbugz.api.user.request.ChangePasswordRequest;
 import org.bootstrapbugz.api.user.request.UpdateUserRequest;
 import org.bootstrapbugz.api.user.response.UserResponse;
+import org.bootstrapbugz.api.user.service.UserExistenceService;
 import org.bootstrapbugz.api.user.service.UserService;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class UserServiceImpl implements UserService {
@@ -27,6 +29,7 @@ public class UserServiceImpl implements UserService {
   private final PasswordEncoder bCryptPasswordEncoder;
   private final ApplicationEventPublisher eventPublisher;
   private final JwtService jwtService;
+  private final UserExistenceService userExistenceService;
 
   public UserServiceImpl(
       UserRepository userRepository,
@@ -34,30 +37,34 @@ public class UserServiceImpl implements UserService {
       UserMapper userMapper,
       PasswordEncoder bCryptPasswordEncoder,
       ApplicationEventPublisher eventPublisher,
-      JwtService jwtService) {
+      JwtService jwtService,
+      UserExistenceService userExistenceService) {
     this.userRepository = userRepository;
     this.messageService = messageService;
     this.userMapper = userMapper;
     this.bCryptPasswordEncoder = bCryptPasswordEncoder;
     this.eventPublisher = eventPublisher;
     this.jwtService = jwtService;
+    this.userExistenceService = userExistenceService;
   }
 
   @Override
+  @Transactional(readOnly = true)
   public UserResponse findByUsername(String username) {
-    final var user =
+    final var userResponse =
         userRepository
-            .findByUsername(username)
+            .findUserResponseByUsername(username)
             .orElseThrow(
                 () ->
                     new ResourceNotFoundException(
                         messageService.getMessage("user.notFound"), ErrorDomain.USER));
-    user.setRoles(null);
-    if (!AuthUtil.findLoggedUser().getUsername().equals(user.getUsername())) user.setEmail(null);
-    return userMapper.userToUserResponse(user);
+    if (!AuthUtil.findLoggedUser().getUsername().equals(userResponse.getUsername()))
+      userResponse.setEmail(null);
+    return userResponse;
   }
 
   @Override
+  @Transactional
   public UserResponse update(UpdateUserRequest updateUserRequest) {
     final var user = AuthUtil.findLoggedUser();
     user.setFirstName(updateUserRequest.getFirstName());
@@ -69,7 +76,7 @@ public class UserServiceImpl implements UserService {
 
   private void tryToSetUsername(User user, String username) {
     if (user.getUsername().equals(username)) return;
-    if (userRepository.existsByUsername(username))
+    if (userExistenceService.existsByUsername(username))
       throw new BadRequestException(messageService.getMessage("username.exists"), ErrorDomain.USER);
 
     user.setUsername(username);
@@ -79,7 +86,7 @@ public class UserServiceImpl implements UserService {
 
   private void tryToSetEmail(User user, String email) {
     if (user.getEmail().equals(email)) return;
-    if (userRepository.existsByEmail(email))
+    if (userExistenceService.existsByEmail(email))
       throw new BadRequestException(messageService.getMessage("email.exists"), ErrorDomain.USER);
 
     user.setEmail(email);
@@ -1,7 +1,3 @@
-INSERT INTO roles (role_name)
-VALUES ('USER');
-INSERT INTO roles (role_name)
-VALUES ('ADMIN');
 -- password for user and admin is "qwerty123"
 INSERT INTO users (first_name,
                    last_name,
@@ -9,31 +5,29 @@ INSERT INTO users (first_name,
                    email,
                    password,
                    activated,
-                   non_locked)
+                   non_locked,
+                   roles)
 VALUES ('Admin',
         'Admin',
         'admin',
         'skill.potion21@gmail.com',
         '$2a$10$b8zZNzhplNH37WyfR2kQ5uRr2U4ui3BAjjBQy4aNH.mh40Jj3cMV6',
         true,
-        true);
+        true,
+        3);
 INSERT INTO users (first_name,
                    last_name,
                    username,
                    email,
                    password,
                    activated,
-                   non_locked)
+                   non_locked,
+                   roles)
 VALUES ('User',
         'User',
         'user',
         'decrescendo807@gmail.com',
         '$2a$10$b8zZNzhplNH37WyfR2kQ5uRr2U4ui3BAjjBQy4aNH.mh40Jj3cMV6',
         true,
-        true);
-INSERT INTO user_roles (user_id, role_name)
-VALUES (1, 'USER');
-INSERT INTO user_roles (user_id, role_name)
-VALUES (1, 'ADMIN');
-INSERT INTO user_roles (user_id, role_name)
-VALUES (2, 'USER');
+        true,
+        1);
@@ -1,10 +1,7 @@
+DROP TABLE IF EXISTS email_outbox;
 DROP TABLE IF EXISTS user_roles;
 DROP TABLE IF EXISTS users;
 DROP TABLE IF EXISTS roles;
-CREATE TABLE roles
-(
-    role_name VARCHAR(128) PRIMARY KEY
-);
 CREATE TABLE users
 (
     user_id    serial PRIMARY KEY,
@@ -14,14 +11,18 @@ CREATE TABLE users
     email      VARCHAR(128) NOT NULL,
     password   VARCHAR(128) NOT NULL,
     activated  BOOLEAN      NOT NULL,
-    non_locked BOOLEAN      NOT NULL
+    non_locked BOOLEAN      NOT NULL,
+    roles      INTEGER      NOT NULL,
+    CONSTRAINT users_username_key UNIQUE (username),
+    CONSTRAINT users_email_key UNIQUE (email)
 );
-CREATE TABLE user_roles
+CREATE TABLE email_outbox
 (
-    user_id   INTEGER      NOT NULL,
-    role_name VARCHAR(128) NOT NULL
+    email_outbox_id serial PRIMARY KEY,
+    recipient       VARCHAR(128) NOT NULL,
+    subject         VARCHAR(256) NOT NULL,
+    body            TEXT         NOT NULL,
+    attempts        INTEGER      NOT NULL,
+    available_at    TIMESTAMP    NOT NULL
 );
-ALTER TABLE user_roles
-    ADD FOREIGN KEY (user_id) REFERENCES users (user_id);
-ALTER TABLE user_roles
-    ADD FOREIGN KEY (role_name) REFERENCES roles (role_name);
+CREATE INDEX email_outbox_available_at_idx ON email_outbox (available_at, email_outbox_id);
@@ -16,10 +16,14 @@ import org.bootstrapbugz.api.admin.request.ChangeRoleRequest;
 import org.bootstrapbugz.api.auth.request.LoginRequest;
 import org.bootstrapbugz.api.auth.response.LoginResponse;
 import org.bootstrapbugz.api.auth.util.AuthUtil;
+import org.bootstrapbugz.api.shared.config.QueryCountTestConfig;
 import org.bootstrapbugz.api.shared.config.RedisTestConfig;
 import org.bootstrapbugz.api.shared.constants.Path;
+import org.bootstrapbugz.api.shared.util.QueryCounter;
 import org.bootstrapbugz.api.shared.util.TestUtil;
 import org.bootstrapbugz.api.user.model.Role.RoleName;
+import org.bootstrapbugz.api.user.model.User;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
@@ -38,10 +42,11 @@ import org.springframework.test.web.servlet.MockMvc;
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
 @TestInstance(Lifecycle.PER_CLASS)
-@SpringBootTest(classes = RedisTestConfig.class)
+@SpringBootTest(classes = {RedisTestConfig.class, QueryCountTestConfig.class})
 class AdminControllerTest {
   @Autowired private MockMvc mockMvc;
   @Autowired private ObjectMapper objectMapper;
+  @Autowired private QueryCounter queryCounter;
 
   private LoginResponse loginResponse;
 
@@ -50,8 +55,14 @@ class AdminControllerTest {
     loginResponse = TestUtil.login(mockMvc, objectMapper, new LoginRequest("admin", "qwerty123"));
   }
 
+  @AfterEach
+  void tearDown() {
+    queryCounter.clear();
+  }
+
   @Test
   void itShouldFindAllUsers() throws Exception {
+    queryCounter.reset();
     mockMvc
         .perform(
             get(Path.ADMIN + "/users")
@@ -60,12 +71,57 @@ class AdminControllerTest {
         .andExpect(status().isOk())
         .andExpect(content().contentType(MediaType.APPLICATION_JSON))
         .andExpect(jsonPath("$.length()").value(7));
+    queryCounter.assertCount(3);
+  }
+
+  @Test
+  void itShouldSearchUsers() throws Exception {
+    queryCounter.reset();
+    mockMvc
+        .perform(
+            get(Path.ADMIN + "/users/search")
+                .param("query", "lockd")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(AuthUtil.AUTH_HEADER, loginResponse.getToken()))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(jsonPath("$.length()").value(1))
+        .andExpect(jsonPath("$[0].username").value("locked"));
+    queryCounter.assertCount(2);
+  }
+
+  @Test
+  void searchUsersShouldThrowBadRequest_emptyQuery() throws Exception {
+    queryCounter.reset();
+    mockMvc
+        .perform(
+            get(Path.ADMIN + "/users/search")
+                .param("query", " ")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(AuthUtil.AUTH_HEADER, loginResponse.getToken()))
+        .andExpect(status().isBadRequest());
+    queryCounter.assertCount(2);
+  }
+
+  @Test
+  void itShouldFindCacheStatistics() throws Exception {
+    queryCounter.reset();
+    mockMvc
+        .perform(
+            get(Path.ADMIN + "/users/cache-statistics")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(AuthUtil.AUTH_HEADER, loginResponse.getToken()))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(jsonPath("$[?(@.region == '%s')]", User.class.getName()).isNotEmpty());
+    queryCounter.assertCount(2);
   }
 
   @Test
   void itShouldChangeUsersRoles() throws Exception {
     var changeRoleRequest =
         new ChangeRoleRequest(Set.of("user"), Set.of(RoleName.USER, RoleName.ADMIN));
+    queryCounter.reset();
     mockMvc
         .perform(
             put(Path.ADMIN + "/users/role")
@@ -73,6 +129,7 @@ class AdminControllerTest {
                 .header(AuthUtil.AUTH_HEADER, loginResponse.getToken())
                 .content(objectMapper.writeValueAsString(changeRoleRequest)))
         .andExpect(status().isNoContent());
+    queryCounter.assertCount(4);
   }
 
   @ParameterizedTest
@@ -84,6 +141,7 @@ class AdminControllerTest {
   })
   void itShouldLockUnlockDeactivateActivateUsers(String path, String username) throws Exception {
     var adminRequest = new AdminRequest(Set.of(username));
+    queryCounter.reset();
     mockMvc
         .perform(
             put(Path.ADMIN + "/users/" + path)
@@ -91,11 +149,13 @@ class AdminControllerTest {
                 .header(AuthUtil.AUTH_HEADER, loginResponse.getToken())
                 .content(objectMapper.writeValueAsString(adminRequest)))
         .andExpect(status().isNoContent());
+    queryCounter.assertCount(4);
   }
 
   @Test
   void itShouldDeleteUsers() throws Exception {
     var adminRequest = new AdminRequest(Set.of("forUpdate2"));
+    queryCounter.reset();
     mockMvc
         .perform(
             delete(Path.ADMIN + "/users/delete")
@@ -103,5 +163,6 @@ class AdminControllerTest {
                 .header(AuthUtil.AUTH_HEADER, loginResponse.getToken())
                 .content(objectMapper.writeValueAsString(adminRequest)))
         .andExpect(status().isNoContent());
+    queryCounter.assertCount(4);
   }
 }
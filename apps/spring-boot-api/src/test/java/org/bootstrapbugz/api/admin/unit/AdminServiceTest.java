@@ -1,6 +1,7 @@
 package org.bootstrapbugz.api.admin.unit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -14,12 +15,13 @@ import org.bootstrapbugz.api.admin.request.AdminRequest;
 import org.bootstrapbugz.api.admin.request.ChangeRoleRequest;
 import org.bootstrapbugz.api.admin.service.impl.AdminServiceImpl;
 import org.bootstrapbugz.api.auth.service.JwtService;
-import org.bootstrapbugz.api.user.mapper.UserMapperImpl;
+import org.bootstrapbugz.api.shared.error.exception.BadRequestException;
+import org.bootstrapbugz.api.shared.message.service.MessageService;
 import org.bootstrapbugz.api.user.model.Role;
 import org.bootstrapbugz.api.user.model.Role.RoleName;
 import org.bootstrapbugz.api.user.model.User;
 import org.bootstrapbugz.api.user.repository.UserRepository;
-import org.bootstrapbugz.api.user.response.RoleResponse;
+import org.bootstrapbugz.api.user.repository.search.UserSearchRepository;
 import org.bootstrapbugz.api.user.response.UserResponse;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -27,7 +29,6 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
@@ -35,15 +36,16 @@ import org.springframework.security.core.context.SecurityContext;
 @ExtendWith(MockitoExtension.class)
 class AdminServiceTest {
   @Mock private UserRepository userRepository;
+  @Mock private UserSearchRepository userSearchRepository;
   @Mock private JwtService jwtService;
-  @Spy private UserMapperImpl userMapper;
+  @Mock private MessageService messageService;
   @Mock private Authentication auth;
   @Mock private SecurityContext securityContext;
 
   @InjectMocks private AdminServiceImpl adminService;
 
-  private final Set<Role> userRoles = Set.of(new Role(RoleName.USER));
-  private final Set<Role> adminRoles = Set.of(new Role(RoleName.USER), new Role(RoleName.ADMIN));
+  private final Set<Role> userRoles = Role.setOf(RoleName.USER);
+  private final Set<Role> adminRoles = Role.setOf(RoleName.USER, RoleName.ADMIN);
   private final User admin =
       new User(1L, "Admin", "Admin", "admin", "admin@admin.com", null, true, true, adminRoles);
   private final User user =
@@ -55,20 +57,33 @@ class AdminServiceTest {
 
   @Test
   void itShouldFindAllUsersWithRoles() {
-    var userRoleResponses = Set.of(new RoleResponse(RoleName.USER.name()));
-    var adminRoleResponses =
-        Set.of(new RoleResponse(RoleName.USER.name()), new RoleResponse(RoleName.ADMIN.name()));
     var expectedUserResponses =
         List.of(
             new UserResponse(
-                1L, "Admin", "Admin", "admin", "admin@admin.com", true, true, adminRoleResponses),
-            new UserResponse(
-                2L, "Test", "Test", "test", "test@test.com", true, true, userRoleResponses));
-    when(userRepository.findAllWithRoles()).thenReturn(List.of(admin, user));
+                1L, "Admin", "Admin", "admin", "admin@admin.com", true, true, adminRoles),
+            new UserResponse(2L, "Test", "Test", "test", "test@test.com", true, true, userRoles));
+    when(userRepository.findAllUserResponses()).thenReturn(expectedUserResponses);
     var actualUserResponses = adminService.findAllUsers();
     assertThat(actualUserResponses).isEqualTo(expectedUserResponses);
   }
 
+  @Test
+  void itShouldSearchUsers() {
+    var expectedUserResponses =
+        List.of(new UserResponse(2L, "Test", "Test", "test", "test@test.com", true, true));
+    when(userSearchRepository.search("test", 0, 100)).thenReturn(expectedUserResponses);
+    var actualUserResponses = adminService.searchUsers(" test ", -1, 500);
+    assertThat(actualUserResponses).isEqualTo(expectedUserResponses);
+  }
+
+  @Test
+  void searchUsersShouldThrowBadRequest_emptyQuery() {
+    when(messageService.getMessage("search.queryEmpty")).thenReturn("Search query not provided.");
+    assertThatThrownBy(() -> adminService.searchUsers(" ", 0, 20))
+        .isInstanceOf(BadRequestException.class)
+        .hasMessage("Search query not provided.");
+  }
+
   @Test
   void itShouldChangeUsersRoles() {
     var changeRoleRequest =
@@ -80,6 +95,7 @@ class AdminServiceTest {
     adminService.changeRole(changeRoleRequest);
     verify(userRepository, times(1)).saveAll(userArgumentCaptor.capture());
     assertThat(userArgumentCaptor.getValue()).isEqualTo(List.of(expectedUser));
+    assertThat(user.getRoles()).isSameAs(adminRoles);
   }
 
   @Test
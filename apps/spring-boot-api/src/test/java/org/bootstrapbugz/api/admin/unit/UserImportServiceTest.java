@@ -0,0 +1,209 @@
+package org.bootstrapbugz.api.admin.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import javax.validation.Validation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.bootstrapbugz.api.admin.request.UserImportFormat;
+import org.bootstrapbugz.api.admin.response.UserImportResponse.RowError;
+import org.bootstrapbugz.api.admin.service.impl.UserImportServiceImpl;
+import org.bootstrapbugz.api.auth.event.OnSendJwtEmail;
+import org.bootstrapbugz.api.auth.service.JwtService;
+import org.bootstrapbugz.api.auth.util.JwtUtil;
+import org.bootstrapbugz.api.auth.util.JwtUtil.JwtPurpose;
+import org.bootstrapbugz.api.shared.error.exception.BadRequestException;
+import org.bootstrapbugz.api.shared.message.service.MessageService;
+import org.bootstrapbugz.api.user.model.User;
+import org.bootstrapbugz.api.user.repository.UserRepository;
+import org.bootstrapbugz.api.user.service.UserExistenceService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class UserImportServiceTest {
+  @Mock private UserRepository userRepository;
+  @Mock private JwtService jwtService;
+  @Mock private ApplicationEventPublisher eventPublisher;
+  @Mock private MessageService messageService;
+  @Mock private PlatformTransactionManager transactionManager;
+  @Mock private UserExistenceService userExistenceService;
+
+  private final BCryptPasswordEncoder bCryptPasswordEncoder = new BCryptPasswordEncoder(4);
+  private UserImportServiceImpl userImportService;
+
+  @Captor private ArgumentCaptor<List<User>> usersArgumentCaptor;
+
+  @BeforeEach
+  void setUp() {
+    userImportService =
+        new UserImportServiceImpl(
+            userRepository,
+            jwtService,
+            eventPublisher,
+            messageService,
+            bCryptPasswordEncoder,
+            Validation.buildDefaultValidatorFactory().getValidator(),
+            new ObjectMapper(),
+            Runnable::run,
+            new TransactionTemplate(transactionManager),
+            userExistenceService);
+    ReflectionTestUtils.setField(userImportService, "batchSize", 500);
+  }
+
+  private void mockConfirmationToken() {
+    when(jwtService.createToken(anyString(), eq(JwtPurpose.CONFIRM_REGISTRATION)))
+        .thenReturn(JwtUtil.TOKEN_TYPE + "token");
+  }
+
+  private ByteArrayInputStream toInputStream(String content) {
+    return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void itShouldImportUsersFromCsv() {
+    var csv =
+        """
+        firstName,lastName,username,email,password
+        Test,Test,test,test@test.com,qwerty123
+        "Test, Jr.",Test,test2,test2@test.com,qwerty123
+        """;
+    when(userRepository.findUsernamesIn(anySet())).thenReturn(Collections.emptySet());
+    when(userRepository.findEmailsIn(anySet())).thenReturn(Collections.emptySet());
+    mockConfirmationToken();
+    var response = userImportService.importUsers(toInputStream(csv), UserImportFormat.CSV);
+    assertThat(response.getImported()).isEqualTo(2);
+    assertThat(response.getFailed()).isZero();
+    verify(userRepository, times(1)).batchInsert(usersArgumentCaptor.capture());
+    var users = usersArgumentCaptor.getValue();
+    assertThat(users).extracting(User::getUsername).containsExactly("test", "test2");
+    assertThat(users.get(1).getFirstName()).isEqualTo("Test, Jr.");
+    assertThat(bCryptPasswordEncoder.matches("qwerty123", users.get(0).getPassword())).isTrue();
+    verify(eventPublisher, times(2)).publishEvent(any(OnSendJwtEmail.class));
+  }
+
+  @Test
+  void itShouldImportUsersFromNdjson() {
+    var ndjson =
+        """
+        {"firstName":"Test","lastName":"Test","username":"test",\
+        "email":"test@test.com","password":"qwerty123"}
+        """;
+    when(userRepository.findUsernamesIn(Set.of("test"))).thenReturn(Collections.emptySet());
+    when(userRepository.findEmailsIn(Set.of("test@test.com"))).thenReturn(Collections.emptySet());
+    mockConfirmationToken();
+    var response = userImportService.importUsers(toInputStream(ndjson), UserImportFormat.NDJSON);
+    assertThat(response.getImported()).isEqualTo(1);
+    assertThat(response.getFailed()).isZero();
+  }
+
+  @Test
+  void itShouldReportRowErrors() {
+    var csv =
+        """
+        Test,Test,test,test@test.com,qwerty123
+        Test,Test,test,other@test.com,qwerty123
+        Test,Test,user,user@test.com,qwerty123
+        Test1,Test,valid,invalid,123
+        Test,Test
+        """;
+    when(messageService.getMessage("username.exists")).thenReturn("Username already exists.");
+    when(messageService.getMessage("import.rowInvalid")).thenReturn("Invalid row.");
+    when(userRepository.findUsernamesIn(Set.of("test", "user"))).thenReturn(Set.of("user"));
+    when(userRepository.findEmailsIn(Set.of("test@test.com", "user@test.com")))
+        .thenReturn(Collections.emptySet());
+    mockConfirmationToken();
+    var response = userImportService.importUsers(toInputStream(csv), UserImportFormat.CSV);
+    assertThat(response.getImported()).isEqualTo(1);
+    assertThat(response.getFailed()).isEqualTo(4);
+    assertThat(response.getErrors())
+        .contains(
+            new RowError(2, "username", "Username already exists."),
+            new RowError(3, "username", "Username already exists."),
+            new RowError(4, "firstName", "Invalid first name."),
+            new RowError(4, "email", "Invalid email."),
+            new RowError(4, "password", "Invalid password."),
+            new RowError(5, "global", "Invalid row."));
+  }
+
+  @Test
+  void itShouldNotInsertWhenAllRowsAreInvalid() {
+    var response =
+        userImportService.importUsers(toInputStream("not json\n"), UserImportFormat.NDJSON);
+    assertThat(response.getImported()).isZero();
+    assertThat(response.getFailed()).isEqualTo(1);
+    verify(userRepository, never()).batchInsert(anyList());
+  }
+
+  @Test
+  void itShouldReportRowsTakenDuringImport() {
+    var csv =
+        """
+        Test,Test,test,test@test.com,qwerty123
+        Test,Test,test2,test2@test.com,qwerty123
+        """;
+    when(messageService.getMessage("username.exists")).thenReturn("Username already exists.");
+    when(userRepository.findUsernamesIn(Set.of("test", "test2")))
+        .thenReturn(Collections.emptySet());
+    when(userRepository.findUsernamesIn(Set.of("test2"))).thenReturn(Set.of("test2"));
+    when(userRepository.findEmailsIn(anySet())).thenReturn(Collections.emptySet());
+    doThrow(new DuplicateKeyException("users_username_key"))
+        .when(userRepository)
+        .batchInsert(
+            argThat(users -> users.size() > 1 || users.get(0).getUsername().equals("test2")));
+    mockConfirmationToken();
+    var response = userImportService.importUsers(toInputStream(csv), UserImportFormat.CSV);
+    assertThat(response.getImported()).isEqualTo(1);
+    assertThat(response.getErrors())
+        .containsExactly(new RowError(2, "username", "Username already exists."));
+    verify(eventPublisher, times(1)).publishEvent(any(OnSendJwtEmail.class));
+  }
+
+  @Test
+  void importUsersShouldThrowBadRequest_unreadableInput() {
+    var inputStream =
+        new InputStream() {
+          @Override
+          public int read() throws IOException {
+            throw new IOException("Connection reset");
+          }
+        };
+    when(messageService.getMessage("import.unreadable"))
+        .thenReturn("Import file could not be read.");
+    assertThatThrownBy(() -> userImportService.importUsers(inputStream, UserImportFormat.CSV))
+        .isInstanceOf(BadRequestException.class)
+        .hasMessage("Import file could not be read.");
+  }
+}
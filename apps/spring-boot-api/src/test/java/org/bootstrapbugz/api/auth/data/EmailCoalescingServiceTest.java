@@ -0,0 +1,60 @@
+package org.bootstrapbugz.api.auth.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.bootstrapbugz.api.auth.service.EmailCoalescingService;
+import org.bootstrapbugz.api.auth.service.impl.EmailCoalescingServiceImpl;
+import org.bootstrapbugz.api.auth.util.JwtUtil.JwtPurpose;
+import org.bootstrapbugz.api.shared.config.RedisTestConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@DataRedisTest
+@DirtiesContext
+@ActiveProfiles("test")
+@Import({RedisTestConfig.class, EmailCoalescingServiceImpl.class, SimpleMeterRegistry.class})
+class EmailCoalescingServiceTest {
+  @Autowired private EmailCoalescingService emailCoalescingService;
+  @Autowired private MeterRegistry meterRegistry;
+
+  @Test
+  void itShouldSuppressRepeatedRequestsWithinWindow() {
+    assertThat(emailCoalescingService.tryAcquire("coalesced", JwtPurpose.FORGOT_PASSWORD))
+        .isTrue();
+    assertThat(emailCoalescingService.tryAcquire("coalesced", JwtPurpose.FORGOT_PASSWORD))
+        .isFalse();
+    assertThat(emailCoalescingService.tryAcquire("coalesced", JwtPurpose.CONFIRM_REGISTRATION))
+        .isTrue();
+    assertThat(
+            meterRegistry
+                .counter("email.coalesced", "purpose", JwtPurpose.FORGOT_PASSWORD.name())
+                .count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void itShouldReleaseWindowWhenTransactionRollsBack() {
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      assertThat(emailCoalescingService.tryAcquire("rolledBack", JwtPurpose.FORGOT_PASSWORD))
+          .isTrue();
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(
+              synchronization ->
+                  synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+    assertThat(emailCoalescingService.tryAcquire("rolledBack", JwtPurpose.FORGOT_PASSWORD))
+        .isTrue();
+  }
+}
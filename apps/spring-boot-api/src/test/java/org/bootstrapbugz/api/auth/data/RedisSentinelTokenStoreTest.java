@@ -0,0 +1,68 @@
+package org.bootstrapbugz.api.auth.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+
+import org.bootstrapbugz.api.auth.redis.model.JwtBlacklist;
+import org.bootstrapbugz.api.auth.redis.model.RefreshToken;
+import org.bootstrapbugz.api.auth.redis.model.UserBlacklist;
+import org.bootstrapbugz.api.auth.redis.repository.JwtBlacklistRepository;
+import org.bootstrapbugz.api.auth.redis.repository.RefreshTokenRepository;
+import org.bootstrapbugz.api.auth.redis.repository.UserBlacklistRepository;
+import org.bootstrapbugz.api.auth.util.TokenKeyUtil;
+import org.bootstrapbugz.api.shared.config.RedisSentinelTestConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+@DataRedisTest
+@DirtiesContext
+@ActiveProfiles("test")
+@Import(RedisSentinelTestConfig.class)
+@TestPropertySource(
+    properties = {
+      "spring.redis.sentinel.master=" + RedisSentinelTestConfig.MASTER,
+      "spring.redis.sentinel.nodes=127.0.0.1:" + RedisSentinelTestConfig.SENTINEL_PORT,
+      "spring.redis.password="
+    })
+class RedisSentinelTokenStoreTest {
+  @Autowired private JwtBlacklistRepository jwtBlacklistRepository;
+  @Autowired private UserBlacklistRepository userBlacklistRepository;
+  @Autowired private RefreshTokenRepository refreshTokenRepository;
+
+  @Test
+  void itShouldStoreTokensThroughSentinel() {
+    var refreshToken =
+        new RefreshToken(TokenKeyUtil.tokenKey("user", "token123"), "user", "ip1", 1000);
+    refreshTokenRepository.save(refreshToken);
+    jwtBlacklistRepository.save(new JwtBlacklist(TokenKeyUtil.tokenKey("user", "token321"), 1000));
+    userBlacklistRepository.save(
+        new UserBlacklist(TokenKeyUtil.userKey("user"), Instant.now(), 1000));
+
+    assertThat(refreshTokenRepository.findByUsernameAndIpAddress("user", "ip1"))
+        .contains(refreshToken);
+    assertThat(jwtBlacklistRepository.existsById(TokenKeyUtil.tokenKey("user", "token321")))
+        .isTrue();
+    assertThat(userBlacklistRepository.existsById(TokenKeyUtil.userKey("user"))).isTrue();
+  }
+
+  @Test
+  void itShouldKeepKeysOfOneUserOnOneSlot() {
+    final int slot = slot("UserBlacklist:" + TokenKeyUtil.userKey("user"));
+    assertThat(slot("JwtBlacklist:" + TokenKeyUtil.tokenKey("user", "a"))).isEqualTo(slot);
+    assertThat(slot("RefreshToken:" + TokenKeyUtil.tokenKey("user", "b"))).isEqualTo(slot);
+    assertThat(slot("RefreshToken:" + TokenKeyUtil.tokenKey("user", "b") + ":phantom"))
+        .isEqualTo(slot);
+    assertThat(slot("UserBlacklist:" + TokenKeyUtil.userKey("test"))).isNotEqualTo(slot);
+  }
+
+  private int slot(String key) {
+    return ClusterSlotHashUtil.calculateSlot(key);
+  }
+}
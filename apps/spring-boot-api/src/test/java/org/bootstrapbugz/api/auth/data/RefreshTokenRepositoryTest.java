@@ -26,9 +26,9 @@ import org.springframework.test.context.ActiveProfiles;
 class RefreshTokenRepositoryTest {
   @Autowired private RefreshTokenRepository refreshTokenRepository;
 
-  private final RefreshToken first = new RefreshToken("token123", "user", "ip1", 1000);
-  private final RefreshToken second = new RefreshToken("token321", "user", "ip2", 1000);
-  private final RefreshToken third = new RefreshToken("token213", "test", "ip3", 1000);
+  private final RefreshToken first = new RefreshToken("{user}:token123", "user", "ip1", 1000);
+  private final RefreshToken second = new RefreshToken("{user}:token321", "user", "ip2", 1000);
+  private final RefreshToken third = new RefreshToken("{test}:token213", "test", "ip3", 1000);
 
   @BeforeAll
   void setUp() {
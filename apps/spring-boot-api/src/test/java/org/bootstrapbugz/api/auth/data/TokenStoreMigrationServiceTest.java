@@ -0,0 +1,95 @@
+package org.bootstrapbugz.api.auth.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+
+import org.bootstrapbugz.api.auth.redis.model.JwtBlacklist;
+import org.bootstrapbugz.api.auth.redis.model.RefreshToken;
+import org.bootstrapbugz.api.auth.redis.model.UserBlacklist;
+import org.bootstrapbugz.api.auth.redis.repository.JwtBlacklistRepository;
+import org.bootstrapbugz.api.auth.redis.repository.RefreshTokenRepository;
+import org.bootstrapbugz.api.auth.redis.repository.UserBlacklistRepository;
+import org.bootstrapbugz.api.auth.service.impl.TokenStoreMigrationServiceImpl;
+import org.bootstrapbugz.api.auth.util.JwtUtil;
+import org.bootstrapbugz.api.auth.util.TokenKeyUtil;
+import org.bootstrapbugz.api.shared.config.RedisTestConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataRedisTest
+@DirtiesContext
+@ActiveProfiles("test")
+@Import({RedisTestConfig.class, TokenStoreMigrationServiceImpl.class})
+class TokenStoreMigrationServiceTest {
+  @Autowired private TokenStoreMigrationServiceImpl tokenStoreMigrationService;
+  @Autowired private JwtBlacklistRepository jwtBlacklistRepository;
+  @Autowired private UserBlacklistRepository userBlacklistRepository;
+  @Autowired private RefreshTokenRepository refreshTokenRepository;
+  @Autowired private StringRedisTemplate stringRedisTemplate;
+
+  @AfterEach
+  void cleanUp() {
+    jwtBlacklistRepository.deleteAll();
+    userBlacklistRepository.deleteAll();
+    refreshTokenRepository.deleteAll();
+  }
+
+  private String createToken(String username) {
+    return JwtUtil.removeTokenTypeFromToken(JwtUtil.createToken(username, 1000, "secret"));
+  }
+
+  @Test
+  void itShouldMoveLegacyEntriesToDigestKeys() {
+    String refreshToken = createToken("user");
+    String token = createToken("user");
+    refreshTokenRepository.save(new RefreshToken(refreshToken, "user", "ip1", 1000));
+    jwtBlacklistRepository.save(new JwtBlacklist(token, 1000));
+    userBlacklistRepository.save(new UserBlacklist("user", Instant.now(), 1000));
+
+    assertThat(tokenStoreMigrationService.migrate()).isEqualTo(3);
+
+    String refreshTokenKey = TokenKeyUtil.tokenKey("user", refreshToken);
+    assertThat(refreshTokenRepository.existsById(refreshToken)).isFalse();
+    assertThat(refreshTokenRepository.findByUsernameAndIpAddress("user", "ip1"))
+        .hasValueSatisfying(migrated -> assertThat(migrated.getId()).isEqualTo(refreshTokenKey));
+    assertThat(stringRedisTemplate.getExpire("RefreshToken:" + refreshTokenKey))
+        .isBetween(1L, 1000L);
+    assertThat(jwtBlacklistRepository.existsById(token)).isFalse();
+    assertThat(jwtBlacklistRepository.existsById(TokenKeyUtil.tokenKey("user", token))).isTrue();
+    assertThat(userBlacklistRepository.existsById("user")).isFalse();
+    assertThat(userBlacklistRepository.existsById(TokenKeyUtil.userKey("user"))).isTrue();
+  }
+
+  @Test
+  void itShouldDropExpiredLegacyEntries() {
+    String refreshToken = createToken("user");
+    refreshTokenRepository.save(new RefreshToken(refreshToken, "user", "ip1", 1000));
+    stringRedisTemplate.delete("RefreshToken:" + refreshToken);
+
+    assertThat(tokenStoreMigrationService.migrate()).isZero();
+    assertThat(stringRedisTemplate.opsForSet().isMember("RefreshToken", refreshToken)).isFalse();
+    assertThat(stringRedisTemplate.hasKey("RefreshToken:" + refreshToken + ":idx")).isFalse();
+    assertThat(stringRedisTemplate.opsForSet().isMember("RefreshToken:username:user", refreshToken))
+        .isFalse();
+    assertThat(refreshTokenRepository.findByUsernameAndIpAddress("user", "ip1")).isEmpty();
+  }
+
+  @Test
+  void itShouldLeaveDigestKeysAlone() {
+    String refreshTokenKey = TokenKeyUtil.tokenKey("user", createToken("user"));
+    refreshTokenRepository.save(new RefreshToken(refreshTokenKey, "user", "ip1", 1000));
+    userBlacklistRepository.save(
+        new UserBlacklist(TokenKeyUtil.userKey("user"), Instant.now(), 1000));
+
+    assertThat(tokenStoreMigrationService.migrate()).isZero();
+    assertThat(refreshTokenRepository.existsById(refreshTokenKey)).isTrue();
+    assertThat(userBlacklistRepository.existsById(TokenKeyUtil.userKey("user"))).isTrue();
+  }
+}
@@ -5,6 +5,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.util.Set;
@@ -17,23 +18,28 @@ import org.bootstrapbugz.api.auth.request.RefreshTokenRequest;
 import org.bootstrapbugz.api.auth.request.ResendConfirmationEmailRequest;
 import org.bootstrapbugz.api.auth.request.ResetPasswordRequest;
 import org.bootstrapbugz.api.auth.request.SignUpRequest;
+import org.bootstrapbugz.api.auth.response.AvailabilityResponse;
 import org.bootstrapbugz.api.auth.response.RefreshTokenResponse;
 import org.bootstrapbugz.api.auth.service.impl.JwtServiceImpl;
 import org.bootstrapbugz.api.auth.util.AuthUtil;
 import org.bootstrapbugz.api.auth.util.JwtUtil;
 import org.bootstrapbugz.api.auth.util.JwtUtil.JwtPurpose;
+import org.bootstrapbugz.api.shared.config.QueryCountTestConfig;
 import org.bootstrapbugz.api.shared.config.RedisTestConfig;
 import org.bootstrapbugz.api.shared.constants.Path;
 import org.bootstrapbugz.api.shared.error.ErrorDomain;
 import org.bootstrapbugz.api.shared.error.response.ErrorResponse;
+import org.bootstrapbugz.api.shared.util.QueryCounter;
 import org.bootstrapbugz.api.shared.util.TestUtil;
 import org.bootstrapbugz.api.user.model.Role.RoleName;
 import org.bootstrapbugz.api.user.response.RoleResponse;
 import org.bootstrapbugz.api.user.response.UserResponse;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
@@ -43,20 +49,27 @@ import org.springframework.test.web.servlet.MockMvc;
 @DirtiesContext
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
-@SpringBootTest(classes = RedisTestConfig.class)
+@SpringBootTest(classes = {RedisTestConfig.class, QueryCountTestConfig.class})
 class AuthControllerTest {
   @Autowired private MockMvc mockMvc;
   @Autowired private ObjectMapper objectMapper;
+  @Autowired private QueryCounter queryCounter;
   @Autowired private JwtServiceImpl jwtService;
 
+  @AfterEach
+  void tearDown() {
+    queryCounter.clear();
+  }
+
   @Test
   void itShouldSignUp() throws Exception {
     var signUpRequest =
         new SignUpRequest("Test", "Test", "test", "test@localhost.com", "qwerty123", "qwerty123");
     var roleResponses = Set.of(new RoleResponse(RoleName.USER.name()));
     var expectedUserResponse =
-        new UserResponse(
-            8L, "Test", "Test", "test", "test@localhost.com", false, true, roleResponses);
+        new UserResponse(8L, "Test", "Test", "test", "test@localhost.com", false, true)
+            .setRoles(roleResponses);
+    queryCounter.reset();
     var resultActions =
         mockMvc
             .perform(
@@ -65,6 +78,7 @@ class AuthControllerTest {
                     .content(objectMapper.writeValueAsString(signUpRequest)))
             .andExpect(status().isCreated())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+    queryCounter.assertCount(2);
     var actualUserResponse =
         objectMapper.readValue(
             resultActions.andReturn().getResponse().getContentAsString(), UserResponse.class);
@@ -75,6 +89,7 @@ class AuthControllerTest {
   void signUpShouldThrowBadRequest_invalidParameters() throws Exception {
     var signUpRequest =
         new SignUpRequest("Test1", "Test1", "user", "user@localhost.com", "qwerty123", "qwerty12");
+    queryCounter.reset();
     var resultActions =
         mockMvc
             .perform(
@@ -82,6 +97,7 @@ class AuthControllerTest {
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(objectMapper.writeValueAsString(signUpRequest)))
             .andExpect(status().isBadRequest());
+    queryCounter.assertCount(2);
     var expectedErrorResponse = new ErrorResponse(HttpStatus.BAD_REQUEST);
     expectedErrorResponse.addError("firstName", "Invalid first name.");
     expectedErrorResponse.addError("lastName", "Invalid last name.");
@@ -91,20 +107,73 @@ class AuthControllerTest {
     TestUtil.checkErrorMessages(expectedErrorResponse, resultActions);
   }
 
+  @Test
+  void itShouldCheckAvailability() throws Exception {
+    queryCounter.reset();
+    var resultActions =
+        mockMvc
+            .perform(
+                get(Path.AUTH + "/availability")
+                    .param("username", "user")
+                    .param("email", "available@localhost.com"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=5, private"));
+    var actualAvailabilityResponse =
+        objectMapper.readValue(
+            resultActions.andReturn().getResponse().getContentAsString(),
+            AvailabilityResponse.class);
+    assertThat(actualAvailabilityResponse).isEqualTo(new AvailabilityResponse(false, true));
+    queryCounter.assertCount(1);
+  }
+
+  @Test
+  void checkAvailabilityShouldThrowBadRequest_noQuery() throws Exception {
+    queryCounter.reset();
+    var resultActions =
+        mockMvc.perform(get(Path.AUTH + "/availability")).andExpect(status().isBadRequest());
+    queryCounter.assertCount(0);
+    var expectedErrorResponse =
+        new ErrorResponse(
+            HttpStatus.BAD_REQUEST, ErrorDomain.AUTH, "Username or email not provided.");
+    TestUtil.checkErrorMessages(expectedErrorResponse, resultActions);
+  }
+
+  @Test
+  void checkAvailabilityShouldThrowTooManyRequests_rateLimited() throws Exception {
+    for (var i = 0; i < 30; i++)
+      mockMvc
+          .perform(
+              get(Path.AUTH + "/availability")
+                  .param("username", "typed" + i)
+                  .with(TestUtil.remoteAddress("10.0.0.1")))
+          .andExpect(status().isOk());
+    queryCounter.reset();
+    mockMvc
+        .perform(
+            get(Path.AUTH + "/availability")
+                .param("username", "typed")
+                .with(TestUtil.remoteAddress("10.0.0.1")))
+        .andExpect(status().isTooManyRequests());
+    queryCounter.assertCount(0);
+  }
+
   @Test
   void itShouldConfirmRegistration() throws Exception {
     String token = jwtService.createToken("notActivated", JwtPurpose.CONFIRM_REGISTRATION);
+    queryCounter.reset();
     mockMvc
         .perform(
             get(Path.AUTH + "/confirm-registration")
                 .param("token", JwtUtil.removeTokenTypeFromToken(token))
                 .contentType(MediaType.APPLICATION_JSON))
         .andExpect(status().isNoContent());
+    queryCounter.assertCount(3);
   }
 
   @Test
   void confirmRegistrationShouldThrowForbidden_invalidToken() throws Exception {
     String token = jwtService.createToken("unknown", JwtPurpose.CONFIRM_REGISTRATION);
+    queryCounter.reset();
     var resultActions =
         mockMvc
             .perform(
@@ -112,6 +181,7 @@ class AuthControllerTest {
                     .param("token", JwtUtil.removeTokenTypeFromToken(token))
                     .contentType(MediaType.APPLICATION_JSON))
             .andExpect(status().isForbidden());
+    queryCounter.assertCount(1);
     var expectedErrorResponse =
         new ErrorResponse(HttpStatus.FORBIDDEN, ErrorDomain.AUTH, "Invalid token.");
     TestUtil.checkErrorMessages(expectedErrorResponse, resultActions);
@@ -120,6 +190,7 @@ class AuthControllerTest {
   @Test
   void confirmRegistrationShouldThrowForbidden_userAlreadyActivated() throws Exception {
     String token = jwtService.createToken("user", JwtPurpose.CONFIRM_REGISTRATION);
+    queryCounter.reset();
     var resultActions =
         mockMvc
             .perform(
@@ -127,6 +198,7 @@ class AuthControllerTest {
                     .param("token", JwtUtil.removeTokenTypeFromToken(token))
                     .contentType(MediaType.APPLICATION_JSON))
             .andExpect(status().isForbidden());
+    queryCounter.assertCount(2);
     var expectedErrorResponse =
         new ErrorResponse(HttpStatus.FORBIDDEN, ErrorDomain.AUTH, "User already activated.");
     TestUtil.checkErrorMessages(expectedErrorResponse, resultActions);
@@ -135,12 +207,14 @@ class AuthControllerTest {
   @Test
   void itShouldResendConfirmationEmail() throws Exception {
     var resendConfirmationEmailRequest = new ResendConfirmationEmailRequest("notActivated");
+    queryCounter.reset();
     mockMvc
         .perform(
             post(Path.AUTH + "/resend-confirmation-email")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(resendConfirmationEmailRequest)))
         .andExpect(status().isNoContent());
+    queryCounter.assertCount(3);
   }
 
   @Test
@@ -148,6 +222,7 @@ class AuthControllerTest {
     var resendConfirmationEmailRequest = new ResendConfirmationEmailRequest("unknown");
     var expectedErrorResponse =
         new ErrorResponse(HttpStatus.NOT_FOUND, ErrorDomain.AUTH, "User not found.");
+    queryCounter.reset();
     var resultActions =
         mockMvc
             .perform(
@@ -155,6 +230,7 @@ class AuthControllerTest {
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(objectMapper.writeValueAsString(resendConfirmationEmailRequest)))
             .andExpect(status().isNotFound());
+    queryCounter.assertCount(2);
     TestUtil.checkErrorMessages(expectedErrorResponse, resultActions);
   }
 
@@ -163,6 +239,7 @@ class AuthControllerTest {
     var resendConfirmationEmailRequest = new ResendConfirmationEmailRequest("user");
     var expectedErrorResponse =
         new ErrorResponse(HttpStatus.FORBIDDEN, ErrorDomain.AUTH, "User already activated.");
+    queryCounter.reset();
     var resultActions =
         mockMvc
             .perform(
@@ -170,18 +247,21 @@ class AuthControllerTest {
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(objectMapper.writeValueAsString(resendConfirmationEmailRequest)))
             .andExpect(status().isForbidden());
+    queryCounter.assertCount(2);
     TestUtil.checkErrorMessages(expectedErrorResponse, resultActions);
   }
 
   @Test
   void itShouldForgotPassword() throws Exception {
     var forgotPasswordRequest = new ForgotPasswordRequest("user@localhost.com");
+    queryCounter.reset();
     mockMvc
         .perform(
             post(Path.AUTH + "/forgot-password")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(forgotPasswordRequest)))
         .andExpect(status().isNoContent());
+    queryCounter.assertCount(2);
   }
 
   @Test
@@ -189,6 +269,7 @@ class AuthControllerTest {
     var forgotPasswordRequest = new ForgotPasswordRequest("unknown@localhost.com");
     var expectedErrorResponse =
         new ErrorResponse(HttpStatus.NOT_FOUND, ErrorDomain.AUTH, "User not found.");
+    queryCounter.reset();
     var resultActions =
         mockMvc
             .perform(
@@ -196,6 +277,7 @@ class AuthControllerTest {
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(objectMapper.writeValueAsString(forgotPasswordRequest)))
             .andExpect(status().isNotFound());
+    queryCounter.assertCount(1);
     TestUtil.checkErrorMessages(expectedErrorResponse, resultActions);
   }
 
@@ -205,12 +287,14 @@ class AuthControllerTest {
     var resetPasswordRequest =
         new ResetPasswordRequest(
             JwtUtil.removeTokenTypeFromToken(token), "qwerty1234", "qwerty1234");
+    queryCounter.reset();
     mockMvc
         .perform(
             put(Path.AUTH + "/reset-password")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(resetPasswordRequest)))
         .andExpect(status().isNoContent());
+    queryCounter.assertCount(3);
     TestUtil.login(mockMvc, objectMapper, new LoginRequest("forUpdate1", "qwerty1234"));
   }
 
@@ -220,6 +304,7 @@ class AuthControllerTest {
     var resetPasswordRequest =
         new ResetPasswordRequest(
             JwtUtil.removeTokenTypeFromToken(token), "qwerty123", "qwerty1234");
+    queryCounter.reset();
     var resultActions =
         mockMvc
             .perform(
@@ -227,6 +312,7 @@ class AuthControllerTest {
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(objectMapper.writeValueAsString(resetPasswordRequest)))
             .andExpect(status().isBadRequest());
+    queryCounter.assertCount(0);
     var expectedErrorResponse = new ErrorResponse(HttpStatus.BAD_REQUEST);
     expectedErrorResponse.addError("password", "Passwords do not match.");
     TestUtil.checkErrorMessages(expectedErrorResponse, resultActions);
@@ -238,6 +324,7 @@ class AuthControllerTest {
     var resetPasswordRequest =
         new ResetPasswordRequest(
             JwtUtil.removeTokenTypeFromToken(token), "qwerty1234", "qwerty1234");
+    queryCounter.reset();
     var resultActions =
         mockMvc
             .perform(
@@ -245,6 +332,7 @@ class AuthControllerTest {
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(objectMapper.writeValueAsString(resetPasswordRequest)))
             .andExpect(status().isForbidden());
+    queryCounter.assertCount(1);
     var expectedErrorResponse =
         new ErrorResponse(HttpStatus.FORBIDDEN, ErrorDomain.AUTH, "Invalid token.");
     TestUtil.checkErrorMessages(expectedErrorResponse, resultActions);
@@ -252,9 +340,12 @@ class AuthControllerTest {
 
   @Test
   void itShouldRefreshToken() throws Exception {
+    queryCounter.reset();
     var loginResponse =
         TestUtil.login(mockMvc, objectMapper, new LoginRequest("user", "qwerty123"));
+    queryCounter.assertCount(2);
     var refreshTokenRequest = new RefreshTokenRequest(loginResponse.getRefreshToken());
+    queryCounter.reset();
     var resultActions =
         mockMvc
             .perform(
@@ -263,6 +354,7 @@ class AuthControllerTest {
                     .content(objectMapper.writeValueAsString(refreshTokenRequest)))
             .andExpect(status().isOk())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+    queryCounter.assertCount(0);
     var refreshTokenResponse =
         objectMapper.readValue(
             resultActions.andReturn().getResponse().getContentAsString(),
@@ -276,12 +368,14 @@ class AuthControllerTest {
   void itShouldLogout() throws Exception {
     var loginResponse =
         TestUtil.login(mockMvc, objectMapper, new LoginRequest("user", "qwerty123"));
+    queryCounter.reset();
     mockMvc
         .perform(
             get(Path.AUTH + "/logout")
                 .contentType(MediaType.APPLICATION_JSON)
                 .header(AuthUtil.AUTH_HEADER, loginResponse.getToken()))
         .andExpect(status().isNoContent());
+    queryCounter.assertCount(2);
     jwtShouldBeInvalid(loginResponse.getToken());
     refreshTokenShouldBeInvalid(loginResponse.getRefreshToken());
   }
@@ -317,12 +411,14 @@ class AuthControllerTest {
   void itShouldLogoutFromAllDevices() throws Exception {
     var loginResponse =
         TestUtil.login(mockMvc, objectMapper, new LoginRequest("user", "qwerty123"));
+    queryCounter.reset();
     mockMvc
         .perform(
             get(Path.AUTH + "/logout-from-all-devices")
                 .contentType(MediaType.APPLICATION_JSON)
                 .header(AuthUtil.AUTH_HEADER, loginResponse.getToken()))
         .andExpect(status().isNoContent());
+    queryCounter.assertCount(2);
     jwtShouldBeInvalid(loginResponse.getToken());
     refreshTokenShouldBeInvalid(loginResponse.getRefreshToken());
   }
@@ -0,0 +1,76 @@
+package org.bootstrapbugz.api.auth.integration;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import javax.sql.DataSource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.bootstrapbugz.api.auth.request.SignUpRequest;
+import org.bootstrapbugz.api.shared.config.RedisTestConfig;
+import org.bootstrapbugz.api.shared.constants.Path;
+import org.bootstrapbugz.api.shared.error.ErrorDomain;
+import org.bootstrapbugz.api.shared.error.response.ErrorResponse;
+import org.bootstrapbugz.api.shared.util.TestUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@DirtiesContext
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@SpringBootTest(classes = RedisTestConfig.class)
+class SignUpConflictTest {
+  @Autowired private MockMvc mockMvc;
+  @Autowired private ObjectMapper objectMapper;
+  @Autowired private DataSource dataSource;
+
+  // Inserted behind Hibernate's back, like a sign-up handled by another node, so this node's
+  // membership filter still reports the username as absent.
+  private void createUserOnAnotherNode(String username, String email) {
+    new JdbcTemplate(dataSource)
+        .update(
+            "INSERT INTO users (first_name, last_name, username, email, password, activated, "
+                + "non_locked, roles) VALUES ('Other', 'Other', ?, ?, 'password', true, true, 1)",
+            username,
+            email);
+  }
+
+  private void signUpShouldConflict(SignUpRequest signUpRequest, String message) throws Exception {
+    var resultActions =
+        mockMvc
+            .perform(
+                post(Path.AUTH + "/sign-up")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(signUpRequest)))
+            .andExpect(status().isConflict());
+    var expectedErrorResponse = new ErrorResponse(HttpStatus.CONFLICT, ErrorDomain.AUTH, message);
+    TestUtil.checkErrorMessages(expectedErrorResponse, resultActions);
+  }
+
+  @Test
+  void signUpShouldThrowConflict_usernameTakenOnAnotherNode() throws Exception {
+    createUserOnAnotherNode("otherNode", "otherNode@localhost.com");
+    signUpShouldConflict(
+        new SignUpRequest(
+            "Test", "Test", "otherNode", "notOtherNode@localhost.com", "qwerty123", "qwerty123"),
+        "Username already exists.");
+  }
+
+  @Test
+  void signUpShouldThrowConflict_emailTakenOnAnotherNode() throws Exception {
+    createUserOnAnotherNode("otherEmail", "otherEmail@localhost.com");
+    signUpShouldConflict(
+        new SignUpRequest(
+            "Test", "Test", "notOtherEmail", "otherEmail@localhost.com", "qwerty123", "qwerty123"),
+        "Email already exists.");
+  }
+}
@@ -0,0 +1,134 @@
+package org.bootstrapbugz.api.auth.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.bootstrapbugz.api.auth.jfr.LoginEvent;
+import org.bootstrapbugz.api.auth.redis.repository.JwtBlacklistRepository;
+import org.bootstrapbugz.api.auth.redis.repository.RefreshTokenRepository;
+import org.bootstrapbugz.api.auth.redis.repository.UserBlacklistRepository;
+import org.bootstrapbugz.api.auth.security.TimedPasswordEncoder;
+import org.bootstrapbugz.api.auth.service.impl.JwtServiceImpl;
+import org.bootstrapbugz.api.auth.util.JwtUtil;
+import org.bootstrapbugz.api.auth.util.JwtUtil.JwtPurpose;
+import org.bootstrapbugz.api.auth.util.TokenKeyUtil;
+import org.bootstrapbugz.api.shared.message.service.MessageService;
+import org.bootstrapbugz.api.shared.timing.RequestTimer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class AuthFlightRecorderTest {
+  @Mock private JwtBlacklistRepository jwtBlacklistRepository;
+  @Mock private UserBlacklistRepository userBlacklistRepository;
+  @Mock private RefreshTokenRepository refreshTokenRepository;
+  @Mock private MessageService messageService;
+
+  @Test
+  void itShouldRecordLoginWithHashDuration() throws IOException {
+    var passwordEncoder =
+        new TimedPasswordEncoder(new BCryptPasswordEncoder(4), new SimpleMeterRegistry());
+    String encoded = passwordEncoder.encode("qwerty123");
+    var events =
+        record(
+            "org.bootstrapbugz.auth.Login",
+            () -> {
+              var loginEvent = new LoginEvent();
+              loginEvent.start();
+              passwordEncoder.matches("qwerty123", encoded);
+              loginEvent.finish("success");
+            });
+    assertThat(events).hasSize(1);
+    assertThat(events.get(0).getString("outcome")).isEqualTo("success");
+    assertThat(events.get(0).getDuration("hashDuration")).isPositive();
+    assertThat(LoginEvent.current()).isNull();
+  }
+
+  @Test
+  void itShouldClearCurrentLoginWhenRecordingStopsBeforeFinish() {
+    var loginEvent = new LoginEvent();
+    try (var recording = new Recording()) {
+      recording.enable("org.bootstrapbugz.auth.Login").withThreshold(Duration.ZERO);
+      recording.start();
+      loginEvent.start();
+      assertThat(LoginEvent.current()).isSameAs(loginEvent);
+      recording.stop();
+    }
+    loginEvent.finish("success");
+    assertThat(LoginEvent.current()).isNull();
+  }
+
+  @Test
+  void itShouldRecordTokenVerificationAndRevocationLookups() throws IOException {
+    var jwtService =
+        new JwtServiceImpl(
+            jwtBlacklistRepository,
+            userBlacklistRepository,
+            refreshTokenRepository,
+            messageService,
+            new SimpleMeterRegistry(),
+            new RequestTimer(Optional.empty()));
+    ReflectionTestUtils.setField(jwtService, "expirationTimeInSecs", 900);
+    ReflectionTestUtils.setField(jwtService, "refreshTokenExpirationTimeInSecs", 604800);
+    String token =
+        JwtUtil.removeTokenTypeFromToken(
+            jwtService.createToken("user", JwtPurpose.ACCESSING_RESOURCES));
+    when(jwtBlacklistRepository.existsById(TokenKeyUtil.tokenKey("user", token)))
+        .thenReturn(false);
+    when(userBlacklistRepository.findById(TokenKeyUtil.userKey("user")))
+        .thenReturn(Optional.empty());
+    var events =
+        record(
+            "org.bootstrapbugz.auth",
+            () -> jwtService.checkToken(token, JwtPurpose.ACCESSING_RESOURCES));
+    var names =
+        events.stream().map(event -> event.getEventType().getName()).collect(Collectors.toList());
+    assertThat(names)
+        .containsExactlyInAnyOrder(
+            "org.bootstrapbugz.auth.RevocationLookup",
+            "org.bootstrapbugz.auth.RevocationLookup",
+            "org.bootstrapbugz.auth.TokenVerification");
+    var verification =
+        events.stream()
+            .filter(event -> event.getEventType().getName().endsWith("TokenVerification"))
+            .findFirst()
+            .orElseThrow();
+    assertThat(verification.getString("purpose")).isEqualTo("ACCESSING_RESOURCES");
+    assertThat(verification.getString("outcome")).isEqualTo("success");
+  }
+
+  private List<RecordedEvent> record(String namePrefix, Runnable action) throws IOException {
+    final Path file = Files.createTempFile("auth", ".jfr");
+    try (var recording = new Recording()) {
+      for (var name : List.of("Login", "TokenVerification", "RevocationLookup", "PrincipalLoad"))
+        recording.enable("org.bootstrapbugz.auth." + name).withThreshold(Duration.ZERO);
+      recording.start();
+      action.run();
+      recording.stop();
+      recording.dump(file);
+      return RecordingFile.readAllEvents(file).stream()
+          .filter(event -> event.getEventType().getName().startsWith(namePrefix))
+          .collect(Collectors.toList());
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+}
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -11,6 +12,8 @@ import static org.mockito.Mockito.when;
 import java.util.Optional;
 import java.util.Set;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 import org.bootstrapbugz.api.auth.event.OnSendJwtEmail;
 import org.bootstrapbugz.api.auth.redis.repository.JwtBlacklistRepository;
 import org.bootstrapbugz.api.auth.redis.repository.RefreshTokenRepository;
@@ -20,14 +23,17 @@ import org.bootstrapbugz.api.auth.request.RefreshTokenRequest;
 import org.bootstrapbugz.api.auth.request.ResendConfirmationEmailRequest;
 import org.bootstrapbugz.api.auth.request.ResetPasswordRequest;
 import org.bootstrapbugz.api.auth.request.SignUpRequest;
+import org.bootstrapbugz.api.auth.service.EmailCoalescingService;
 import org.bootstrapbugz.api.auth.service.impl.AuthServiceImpl;
 import org.bootstrapbugz.api.auth.service.impl.JwtServiceImpl;
 import org.bootstrapbugz.api.auth.util.AuthUtil;
 import org.bootstrapbugz.api.auth.util.JwtUtil;
 import org.bootstrapbugz.api.auth.util.JwtUtil.JwtPurpose;
+import org.bootstrapbugz.api.auth.util.TokenKeyUtil;
 import org.bootstrapbugz.api.shared.error.exception.ForbiddenException;
 import org.bootstrapbugz.api.shared.error.exception.ResourceNotFoundException;
 import org.bootstrapbugz.api.shared.message.service.MessageService;
+import org.bootstrapbugz.api.shared.timing.RequestTimer;
 import org.bootstrapbugz.api.shared.util.TestUtil;
 import org.bootstrapbugz.api.user.mapper.UserMapperImpl;
 import org.bootstrapbugz.api.user.model.Role;
@@ -60,6 +66,7 @@ class AuthServiceTest {
   @Mock private UserBlacklistRepository userBlacklistRepository;
   @Mock private RefreshTokenRepository refreshTokenRepository;
   @Mock private MessageService messageService;
+  @Mock private EmailCoalescingService emailCoalescingService;
   @Mock private Authentication auth;
   @Mock private SecurityContext securityContext;
 
@@ -78,7 +85,9 @@ class AuthServiceTest {
             jwtBlacklistRepository,
             userBlacklistRepository,
             refreshTokenRepository,
-            messageService);
+            messageService,
+            new SimpleMeterRegistry(),
+            new RequestTimer(Optional.empty()));
     authService =
         new AuthServiceImpl(
             userRepository,
@@ -86,9 +95,10 @@ class AuthServiceTest {
             eventPublisher,
             messageService,
             bCryptPasswordEncoder,
-            userMapper);
+            userMapper,
+            emailCoalescingService);
     password = bCryptPasswordEncoder.encode("qwerty123");
-    roles = Set.of(new Role(RoleName.USER));
+    roles = Set.of(Role.of(RoleName.USER));
     user = new User(1L, "Test", "Test", "test", "test@test.com", password, false, true, roles);
   }
 
@@ -97,7 +107,8 @@ class AuthServiceTest {
     var request = new MockHttpServletRequest();
     request.addHeader("x-forwarded-for", "ip1");
     String token = jwtService.createRefreshToken("user", "ip1");
-    when(refreshTokenRepository.existsById(JwtUtil.removeTokenTypeFromToken(token)))
+    when(refreshTokenRepository.existsById(
+            TokenKeyUtil.tokenKey("user", JwtUtil.removeTokenTypeFromToken(token))))
         .thenReturn(true);
     var refreshTokenRequest = new RefreshTokenRequest(token);
     var refreshTokenResponse = authService.refreshToken(refreshTokenRequest, request);
@@ -109,7 +120,8 @@ class AuthServiceTest {
   void itShouldSignUp() {
     var roleResponses = Set.of(new RoleResponse(RoleName.USER.name()));
     var expectedUserResponse =
-        new UserResponse(1L, "Test", "Test", "test", "test@test.com", false, true, roleResponses);
+        new UserResponse(1L, "Test", "Test", "test", "test@test.com", false, true)
+            .setRoles(roleResponses);
     var signUpRequest =
         new SignUpRequest("Test", "Test", "test", "test@test.com", "qwerty123", "qwerty123");
     when(userRepository.save(any(User.class))).thenReturn(user);
@@ -158,10 +170,22 @@ class AuthServiceTest {
   void itShouldResendConfirmationEmail() {
     var resendConfirmationEmailRequest = new ResendConfirmationEmailRequest("test");
     when(userRepository.findByUsernameOrEmail("test", "test")).thenReturn(Optional.of(user));
+    when(emailCoalescingService.tryAcquire("test", JwtPurpose.CONFIRM_REGISTRATION))
+        .thenReturn(true);
     authService.resendConfirmationEmail(resendConfirmationEmailRequest);
     verify(eventPublisher, times(1)).publishEvent(any(OnSendJwtEmail.class));
   }
 
+  @Test
+  void resendConfirmationEmailShouldReusePendingEmail() {
+    var resendConfirmationEmailRequest = new ResendConfirmationEmailRequest("test");
+    when(userRepository.findByUsernameOrEmail("test", "test")).thenReturn(Optional.of(user));
+    when(emailCoalescingService.tryAcquire("test", JwtPurpose.CONFIRM_REGISTRATION))
+        .thenReturn(false);
+    authService.resendConfirmationEmail(resendConfirmationEmailRequest);
+    verify(eventPublisher, never()).publishEvent(any(OnSendJwtEmail.class));
+  }
+
   @Test
   void resendConfirmationEmailShouldThrowResourceNotFound_userNotFound() {
     var resendConfirmationEmailRequest = new ResendConfirmationEmailRequest("test");
@@ -186,10 +210,20 @@ class AuthServiceTest {
   void itShouldForgotPassword() {
     var forgotPasswordRequest = new ForgotPasswordRequest("test@test.com");
     when(userRepository.findByEmail("test@test.com")).thenReturn(Optional.of(user));
+    when(emailCoalescingService.tryAcquire("test", JwtPurpose.FORGOT_PASSWORD)).thenReturn(true);
     authService.forgotPassword(forgotPasswordRequest);
     verify(eventPublisher, times(1)).publishEvent(any(OnSendJwtEmail.class));
   }
 
+  @Test
+  void forgotPasswordShouldReusePendingEmail() {
+    var forgotPasswordRequest = new ForgotPasswordRequest("test@test.com");
+    when(userRepository.findByEmail("test@test.com")).thenReturn(Optional.of(user));
+    when(emailCoalescingService.tryAcquire("test", JwtPurpose.FORGOT_PASSWORD)).thenReturn(false);
+    authService.forgotPassword(forgotPasswordRequest);
+    verify(eventPublisher, never()).publishEvent(any(OnSendJwtEmail.class));
+  }
+
   @Test
   void forgotPasswordShouldThrowResourceNotFound_userNotFound() {
     var forgotPasswordRequest = new ForgotPasswordRequest("test@test.com");
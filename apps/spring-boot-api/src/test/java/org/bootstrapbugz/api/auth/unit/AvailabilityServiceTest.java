@@ -0,0 +1,104 @@
+package org.bootstrapbugz.api.auth.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.bootstrapbugz.api.auth.response.AvailabilityResponse;
+import org.bootstrapbugz.api.auth.service.impl.AvailabilityServiceImpl;
+import org.bootstrapbugz.api.shared.error.exception.TooManyRequestsException;
+import org.bootstrapbugz.api.shared.message.service.MessageService;
+import org.bootstrapbugz.api.user.service.UserExistenceService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class AvailabilityServiceTest {
+  @Mock private UserExistenceService userExistenceService;
+  @Mock private StringRedisTemplate stringRedisTemplate;
+  @Mock private MessageService messageService;
+
+  private final MockHttpServletRequest request = new MockHttpServletRequest();
+  private AvailabilityServiceImpl availabilityService;
+
+  @BeforeEach
+  void setUp() {
+    availabilityService =
+        new AvailabilityServiceImpl(
+            userExistenceService, stringRedisTemplate, messageService, 5, 100);
+    ReflectionTestUtils.setField(availabilityService, "rateLimitRequests", 30L);
+    ReflectionTestUtils.setField(availabilityService, "rateLimitWindowInSecs", 10L);
+    request.setRemoteAddr("10.0.0.1");
+  }
+
+  private void mockRequestCount(long count) {
+    when(stringRedisTemplate.execute(
+            any(RedisScript.class), eq(List.of("AvailabilityRateLimit:10.0.0.1")), anyString()))
+        .thenReturn(count);
+  }
+
+  @Test
+  void itShouldCacheAvailableUsername() {
+    mockRequestCount(2L);
+    when(userExistenceService.existsByUsername("available")).thenReturn(false);
+    assertThat(availabilityService.checkAvailability("available", null, request))
+        .isEqualTo(new AvailabilityResponse(true, null));
+    assertThat(availabilityService.checkAvailability("available", null, request))
+        .isEqualTo(new AvailabilityResponse(true, null));
+    verify(userExistenceService, times(1)).existsByUsername("available");
+  }
+
+  @Test
+  void itShouldNotCacheTakenEmail() {
+    mockRequestCount(2L);
+    when(userExistenceService.existsByEmail("taken@localhost.com")).thenReturn(true);
+    availabilityService.checkAvailability(null, "taken@localhost.com", request);
+    assertThat(availabilityService.checkAvailability(null, "taken@localhost.com", request))
+        .isEqualTo(new AvailabilityResponse(null, false));
+    verify(userExistenceService, times(2)).existsByEmail("taken@localhost.com");
+  }
+
+  @Test
+  void checkAvailabilityShouldThrowTooManyRequests() {
+    mockRequestCount(31L);
+    when(messageService.getMessage("availability.tooManyRequests"))
+        .thenReturn("Too many availability checks, try again later.");
+    assertThatThrownBy(() -> availabilityService.checkAvailability("user", null, request))
+        .isInstanceOf(TooManyRequestsException.class)
+        .hasMessage("Too many availability checks, try again later.");
+  }
+
+  @Test
+  void itShouldRateLimitByRemoteAddress_ignoringForwardedFor() {
+    request.addHeader("x-forwarded-for", "203.0.113.7");
+    mockRequestCount(31L);
+    when(messageService.getMessage("availability.tooManyRequests"))
+        .thenReturn("Too many availability checks, try again later.");
+    assertThatThrownBy(() -> availabilityService.checkAvailability("user", null, request))
+        .isInstanceOf(TooManyRequestsException.class);
+  }
+
+  @Test
+  void itShouldCacheTrimmedValue() {
+    mockRequestCount(2L);
+    when(userExistenceService.existsByUsername("available")).thenReturn(false);
+    availabilityService.checkAvailability(" available ", null, request);
+    assertThat(availabilityService.checkAvailability("available", null, request))
+        .isEqualTo(new AvailabilityResponse(true, null));
+    verify(userExistenceService, times(1)).existsByUsername("available");
+  }
+}
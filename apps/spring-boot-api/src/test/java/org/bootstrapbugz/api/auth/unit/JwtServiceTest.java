@@ -12,6 +12,7 @@ import java.util.List;
 import java.util.Optional;
 
 import com.auth0.jwt.exceptions.TokenExpiredException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import org.bootstrapbugz.api.auth.redis.model.JwtBlacklist;
 import org.bootstrapbugz.api.auth.redis.model.RefreshToken;
@@ -22,13 +23,15 @@ import org.bootstrapbugz.api.auth.redis.repository.UserBlacklistRepository;
 import org.bootstrapbugz.api.auth.service.impl.JwtServiceImpl;
 import org.bootstrapbugz.api.auth.util.JwtUtil;
 import org.bootstrapbugz.api.auth.util.JwtUtil.JwtPurpose;
+import org.bootstrapbugz.api.auth.util.TokenKeyUtil;
 import org.bootstrapbugz.api.shared.error.exception.ForbiddenException;
 import org.bootstrapbugz.api.shared.message.service.MessageService;
+import org.bootstrapbugz.api.shared.timing.RequestTimer;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -39,12 +42,24 @@ class JwtServiceTest {
   @Mock private RefreshTokenRepository refreshTokenRepository;
   @Mock private MessageService messageService;
 
-  @InjectMocks private JwtServiceImpl jwtService;
+  private JwtServiceImpl jwtService;
 
   @Captor private ArgumentCaptor<JwtBlacklist> jwtBlacklistArgumentCaptor;
   @Captor private ArgumentCaptor<UserBlacklist> userBlacklistArgumentCaptor;
   @Captor private ArgumentCaptor<RefreshToken> refreshTokenArgumentCaptor;
 
+  @BeforeEach
+  void setUp() {
+    jwtService =
+        new JwtServiceImpl(
+            jwtBlacklistRepository,
+            userBlacklistRepository,
+            refreshTokenRepository,
+            messageService,
+            new SimpleMeterRegistry(),
+            new RequestTimer(Optional.empty()));
+  }
+
   @Test
   void itShouldCreateToken() {
     String token = jwtService.createToken("user", JwtPurpose.ACCESSING_RESOURCES);
@@ -56,19 +71,21 @@ class JwtServiceTest {
     String token =
         JwtUtil.removeTokenTypeFromToken(
             jwtService.createToken("user", JwtPurpose.ACCESSING_RESOURCES));
-    when(jwtBlacklistRepository.existsById(token)).thenReturn(false);
-    when(userBlacklistRepository.findById("user")).thenReturn(Optional.empty());
+    when(jwtBlacklistRepository.existsById(TokenKeyUtil.tokenKey("user", token))).thenReturn(false);
+    when(userBlacklistRepository.findById(TokenKeyUtil.userKey("user")))
+        .thenReturn(Optional.empty());
     jwtService.checkToken(token, JwtPurpose.ACCESSING_RESOURCES);
   }
 
   @Test
   void itShouldCheckToken_userInBlacklistButTokenIsIssuedAfter() {
-    var userBlacklist = new UserBlacklist("user", Instant.now(), 1000);
+    var userBlacklist = new UserBlacklist(TokenKeyUtil.userKey("user"), Instant.now(), 1000);
     String token =
         JwtUtil.removeTokenTypeFromToken(
             jwtService.createToken("user", JwtPurpose.ACCESSING_RESOURCES));
-    when(jwtBlacklistRepository.existsById(token)).thenReturn(false);
-    when(userBlacklistRepository.findById("user")).thenReturn(Optional.of(userBlacklist));
+    when(jwtBlacklistRepository.existsById(TokenKeyUtil.tokenKey("user", token))).thenReturn(false);
+    when(userBlacklistRepository.findById(TokenKeyUtil.userKey("user")))
+        .thenReturn(Optional.of(userBlacklist));
     jwtService.checkToken(token, JwtPurpose.ACCESSING_RESOURCES);
   }
 
@@ -85,7 +102,7 @@ class JwtServiceTest {
     String token =
         JwtUtil.removeTokenTypeFromToken(
             jwtService.createToken("user", JwtPurpose.ACCESSING_RESOURCES));
-    when(jwtBlacklistRepository.existsById(token)).thenReturn(true);
+    when(jwtBlacklistRepository.existsById(TokenKeyUtil.tokenKey("user", token))).thenReturn(true);
     when(messageService.getMessage("token.invalid")).thenReturn("Invalid token.");
     assertThatThrownBy(() -> jwtService.checkToken(token, JwtPurpose.ACCESSING_RESOURCES))
         .isInstanceOf(ForbiddenException.class)
@@ -97,9 +114,10 @@ class JwtServiceTest {
     String token =
         JwtUtil.removeTokenTypeFromToken(
             jwtService.createToken("user", JwtPurpose.ACCESSING_RESOURCES));
-    var userBlacklist = new UserBlacklist("user", Instant.now(), 1000);
-    when(jwtBlacklistRepository.existsById(token)).thenReturn(false);
-    when(userBlacklistRepository.findById("user")).thenReturn(Optional.of(userBlacklist));
+    var userBlacklist = new UserBlacklist(TokenKeyUtil.userKey("user"), Instant.now(), 1000);
+    when(jwtBlacklistRepository.existsById(TokenKeyUtil.tokenKey("user", token))).thenReturn(false);
+    when(userBlacklistRepository.findById(TokenKeyUtil.userKey("user")))
+        .thenReturn(Optional.of(userBlacklist));
     when(messageService.getMessage("token.invalid")).thenReturn("Invalid token.");
     assertThatThrownBy(() -> jwtService.checkToken(token, JwtPurpose.ACCESSING_RESOURCES))
         .isInstanceOf(ForbiddenException.class)
@@ -111,30 +129,33 @@ class JwtServiceTest {
     String token =
         JwtUtil.removeTokenTypeFromToken(
             jwtService.createToken("user", JwtPurpose.ACCESSING_RESOURCES));
-    var expectedJwtBlacklist = new JwtBlacklist(token, 1000);
+    var expectedJwtBlacklist = new JwtBlacklist(TokenKeyUtil.tokenKey("user", token), 1000);
     jwtService.invalidateToken(token);
     verify(jwtBlacklistRepository, times(1)).save(jwtBlacklistArgumentCaptor.capture());
-    assertThat(jwtBlacklistArgumentCaptor.getValue().getToken())
-        .isEqualTo(expectedJwtBlacklist.getToken());
+    assertThat(jwtBlacklistArgumentCaptor.getValue().getId())
+        .isEqualTo(expectedJwtBlacklist.getId());
   }
 
   @Test
   void itShouldInvalidateAllTokens() {
-    var expectedUserBlacklist = new UserBlacklist("user", Instant.now(), 1000);
+    var expectedUserBlacklist =
+        new UserBlacklist(TokenKeyUtil.userKey("user"), Instant.now(), 1000);
     jwtService.invalidateAllTokens("user");
     verify(userBlacklistRepository, times(1)).save(userBlacklistArgumentCaptor.capture());
-    assertThat(userBlacklistArgumentCaptor.getValue().getUsername())
-        .isEqualTo(expectedUserBlacklist.getUsername());
+    assertThat(userBlacklistArgumentCaptor.getValue().getId())
+        .isEqualTo(expectedUserBlacklist.getId());
   }
 
   @Test
   void itShouldCreateRefreshToken() {
     String actualRefreshToken =
         JwtUtil.removeTokenTypeFromToken(jwtService.createRefreshToken("user", "ip1"));
-    var expectedRefreshToken = new RefreshToken(actualRefreshToken, "user", "ip1", 1000);
+    var expectedRefreshToken =
+        new RefreshToken(TokenKeyUtil.tokenKey("user", actualRefreshToken), "user", "ip1", 1000);
     verify(refreshTokenRepository, times(1)).save(refreshTokenArgumentCaptor.capture());
-    assertThat(refreshTokenArgumentCaptor.getValue().getToken())
-        .isEqualTo(expectedRefreshToken.getToken());
+    assertThat(refreshTokenArgumentCaptor.getValue().getId())
+        .isEqualTo(expectedRefreshToken.getId())
+        .hasSize("{user}:".length() + 43);
     assertThat(refreshTokenArgumentCaptor.getValue().getUsername())
         .isEqualTo(expectedRefreshToken.getUsername());
     assertThat(refreshTokenArgumentCaptor.getValue().getIpAddress())
@@ -145,7 +166,8 @@ class JwtServiceTest {
   void itShouldCheckRefreshToken() {
     String refreshToken =
         JwtUtil.removeTokenTypeFromToken(jwtService.createRefreshToken("user", "ip1"));
-    when(refreshTokenRepository.existsById(refreshToken)).thenReturn(true);
+    when(refreshTokenRepository.existsById(TokenKeyUtil.tokenKey("user", refreshToken)))
+        .thenReturn(true);
     jwtService.checkRefreshToken(refreshToken);
   }
 
@@ -161,33 +183,26 @@ class JwtServiceTest {
   void checkRefreshTokenShouldThrowForbidden_refreshTokenNotInRedis() {
     String refreshToken =
         JwtUtil.removeTokenTypeFromToken(jwtService.createRefreshToken("user", "ip1"));
-    when(refreshTokenRepository.existsById(refreshToken)).thenReturn(false);
+    when(refreshTokenRepository.existsById(TokenKeyUtil.tokenKey("user", refreshToken)))
+        .thenReturn(false);
     when(messageService.getMessage("token.invalid")).thenReturn("Invalid token.");
     assertThatThrownBy(() -> jwtService.checkRefreshToken(refreshToken))
         .isInstanceOf(ForbiddenException.class)
         .hasMessage("Invalid token.");
   }
 
-  @Test
-  void itShouldFindRefreshToken() {
-    var refreshToken = new RefreshToken("token123", "user", "ip1", 1000);
-    when(refreshTokenRepository.findByUsernameAndIpAddress("user", "ip1"))
-        .thenReturn(Optional.of(refreshToken));
-    String token = jwtService.findRefreshToken("user", "ip1");
-    assertThat(token).isNotNull();
-  }
-
   @Test
   void itShouldDeleteRefreshToken() {
     String refreshToken =
         JwtUtil.removeTokenTypeFromToken(jwtService.createRefreshToken("user", "ip1"));
     jwtService.deleteRefreshToken(refreshToken);
-    verify(refreshTokenRepository, times(1)).deleteById(any(String.class));
+    verify(refreshTokenRepository, times(1))
+        .deleteById(TokenKeyUtil.tokenKey("user", refreshToken));
   }
 
   @Test
   void itShouldDeleteRefreshTokenByUserAndIpAddress() {
-    var refreshToken = new RefreshToken("token123", "user", "ip1", 1000);
+    var refreshToken = new RefreshToken("{user}:token123", "user", "ip1", 1000);
     when(refreshTokenRepository.findByUsernameAndIpAddress("user", "ip1"))
         .thenReturn(Optional.of(refreshToken));
     jwtService.deleteRefreshTokenByUserAndIpAddress("user", "ip1");
@@ -196,8 +211,8 @@ class JwtServiceTest {
 
   @Test
   void itShouldDeleteAllRefreshTokensByUser() {
-    var refreshToken1 = new RefreshToken("token123", "user", "ip1", 1000);
-    var refreshToken2 = new RefreshToken("token321", "user", "ip2", 1000);
+    var refreshToken1 = new RefreshToken("{user}:token123", "user", "ip1", 1000);
+    var refreshToken2 = new RefreshToken("{user}:token321", "user", "ip2", 1000);
     when(refreshTokenRepository.findAllByUsername("user"))
         .thenReturn(List.of(refreshToken1, refreshToken2));
     jwtService.deleteAllRefreshTokensByUser("user");
@@ -0,0 +1,28 @@
+package org.bootstrapbugz.api.auth.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.bootstrapbugz.api.auth.security.TimedPasswordEncoder;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+class TimedPasswordEncoderTest {
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final TimedPasswordEncoder passwordEncoder =
+      new TimedPasswordEncoder(new BCryptPasswordEncoder(4), meterRegistry);
+
+  @Test
+  void itShouldTimeEncodeAndMatches() {
+    String encoded = passwordEncoder.encode("qwerty123");
+    assertThat(passwordEncoder.matches("qwerty123", encoded)).isTrue();
+    assertThat(passwordEncoder.matches("wrong", encoded)).isFalse();
+    assertThat(timerCount("encode")).isEqualTo(1);
+    assertThat(timerCount("matches")).isEqualTo(2);
+  }
+
+  private long timerCount(String operation) {
+    return meterRegistry.get("auth.password.hashing").tag("operation", operation).timer().count();
+  }
+}
@@ -0,0 +1,280 @@
+package org.bootstrapbugz.api.shared.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.bootstrapbugz.api.auth.request.LoginRequest;
+import org.bootstrapbugz.api.auth.request.RefreshTokenRequest;
+import org.bootstrapbugz.api.auth.response.LoginResponse;
+import org.bootstrapbugz.api.auth.response.RefreshTokenResponse;
+import org.bootstrapbugz.api.auth.util.AuthUtil;
+import org.bootstrapbugz.api.shared.config.RedisTestConfig;
+import org.bootstrapbugz.api.shared.constants.Path;
+import org.bootstrapbugz.api.user.model.Role;
+import org.bootstrapbugz.api.user.model.Role.RoleName;
+import org.bootstrapbugz.api.user.model.User;
+import org.bootstrapbugz.api.user.repository.UserRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Tag("benchmark")
+@DirtiesContext
+@ActiveProfiles("test")
+@SpringBootTest(classes = RedisTestConfig.class, webEnvironment = WebEnvironment.RANDOM_PORT)
+@EnabledIfSystemProperty(named = "benchmark.load.rate", matches = "\\d+")
+class ApiLoadBenchmark {
+  private static final String PASSWORD = "qwerty123";
+  private static final long DRAIN_TIMEOUT_IN_SECS = 60;
+
+  @LocalServerPort private int port;
+  @Autowired private ObjectMapper objectMapper;
+  @Autowired private UserRepository userRepository;
+  @Autowired private PasswordEncoder passwordEncoder;
+
+  private final HttpClient httpClient =
+      HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+  private final Map<Operation, Queue<Long>> latencies = new EnumMap<>(Operation.class);
+  private final Map<Operation, AtomicInteger> errors = new EnumMap<>(Operation.class);
+  private final List<CompletableFuture<?>> inFlight = new ArrayList<>();
+  private final List<Session> sessions = new ArrayList<>();
+  private String adminToken;
+  private int users;
+
+  private enum Operation {
+    LOGIN(10),
+    REFRESH_TOKEN(10),
+    FIND_USER(70),
+    FIND_ALL_USERS(10);
+
+    private final int weight;
+
+    Operation(int defaultWeight) {
+      this.weight = Integer.getInteger("benchmark.load.mix." + name().toLowerCase(), defaultWeight);
+    }
+  }
+
+  private static class Session {
+    private final String username;
+    private final AtomicReference<String> token;
+    private final AtomicReference<String> refreshToken;
+
+    Session(String username, LoginResponse loginResponse) {
+      this.username = username;
+      this.token = new AtomicReference<>(loginResponse.getToken());
+      this.refreshToken = new AtomicReference<>(loginResponse.getRefreshToken());
+    }
+  }
+
+  @Test
+  void loginRefreshAndReads() throws Exception {
+    final int rate = Integer.getInteger("benchmark.load.rate");
+    final int durationInSecs = Integer.getInteger("benchmark.load.duration-in-secs", 30);
+    users = Integer.getInteger("benchmark.load.users", 1000);
+    seedUsers();
+    openSessions(Math.min(users, Integer.getInteger("benchmark.load.sessions", 50)));
+    for (var operation : Operation.values()) {
+      latencies.put(operation, new ConcurrentLinkedQueue<>());
+      errors.put(operation, new AtomicInteger());
+    }
+
+    final int requests = rate * durationInSecs;
+    final var scheduler = Executors.newSingleThreadScheduledExecutor();
+    final var sent = new AtomicInteger();
+    final long start = System.nanoTime();
+    scheduler.scheduleAtFixedRate(
+        () -> {
+          if (sent.getAndIncrement() >= requests) return;
+          try {
+            send(pickOperation());
+          } catch (RuntimeException e) {
+            log.warn("Sending request failed: {}", e.getMessage());
+          }
+        },
+        0,
+        TimeUnit.SECONDS.toNanos(1) / rate,
+        TimeUnit.NANOSECONDS);
+    while (sent.get() < requests) Thread.sleep(10);
+    scheduler.shutdown();
+    scheduler.awaitTermination(1, TimeUnit.SECONDS);
+    synchronized (inFlight) {
+      CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new))
+          .get(DRAIN_TIMEOUT_IN_SECS, TimeUnit.SECONDS);
+    }
+    report(System.nanoTime() - start);
+  }
+
+  private void seedUsers() {
+    final String password = passwordEncoder.encode(PASSWORD);
+    final List<User> seeded = new ArrayList<>(users);
+    for (var i = 0; i < users; i++)
+      seeded.add(
+          new User()
+              .setFirstName("Load")
+              .setLastName("Load")
+              .setUsername("load" + i)
+              .setEmail("load" + i + "@localhost.com")
+              .setPassword(password)
+              .setActivated(true)
+              .setRoles(Set.of(Role.of(RoleName.USER))));
+    userRepository.batchInsert(seeded);
+    log.info("Seeded {} users", users);
+  }
+
+  private void openSessions(int count) throws Exception {
+    adminToken = login("admin").getToken();
+    for (var i = 0; i < count; i++) sessions.add(new Session("load" + i, login("load" + i)));
+  }
+
+  private LoginResponse login(String username) throws Exception {
+    final String body = httpClient.send(loginRequest(username), BodyHandlers.ofString()).body();
+    return objectMapper.readValue(body, LoginResponse.class);
+  }
+
+  private Operation pickOperation() {
+    final var operations = Operation.values();
+    int total = 0;
+    for (var operation : operations) total += operation.weight;
+    int pick = ThreadLocalRandom.current().nextInt(total);
+    for (var operation : operations) {
+      pick -= operation.weight;
+      if (pick < 0) return operation;
+    }
+    return Operation.FIND_USER;
+  }
+
+  private void send(Operation operation) {
+    final var session = sessions.get(ThreadLocalRandom.current().nextInt(sessions.size()));
+    final String refreshToken =
+        operation == Operation.REFRESH_TOKEN ? session.refreshToken.getAndSet(null) : null;
+    if (operation == Operation.REFRESH_TOKEN && refreshToken == null)
+      operation = Operation.FIND_USER;
+    final var request =
+        switch (operation) {
+          case LOGIN -> loginRequest(loginUsername());
+          case REFRESH_TOKEN -> refreshTokenRequest(refreshToken);
+          case FIND_USER -> authenticated(Path.USERS + "/" + session.username, session.token.get());
+          case FIND_ALL_USERS -> authenticated(Path.ADMIN + "/users", adminToken);
+        };
+    final var measured = operation;
+    final long start = System.nanoTime();
+    final var future =
+        httpClient
+            .sendAsync(request, BodyHandlers.ofString())
+            .whenComplete(
+                (response, e) -> {
+                  latencies.get(measured).add(System.nanoTime() - start);
+                  if (e != null || response.statusCode() >= 300) {
+                    errors.get(measured).incrementAndGet();
+                    if (measured == Operation.REFRESH_TOKEN)
+                      session.refreshToken.compareAndSet(null, refreshToken);
+                  } else if (measured == Operation.REFRESH_TOKEN) rotate(session, response);
+                });
+    synchronized (inFlight) {
+      inFlight.add(future);
+    }
+  }
+
+  private void rotate(Session session, HttpResponse<String> response) {
+    try {
+      final var refreshed = objectMapper.readValue(response.body(), RefreshTokenResponse.class);
+      session.token.set(refreshed.getToken());
+      session.refreshToken.set(refreshed.getRefreshToken());
+    } catch (Exception e) {
+      log.warn("Reading refresh token response failed: {}", e.getMessage());
+    }
+  }
+
+  // Logging in rotates the refresh token of that user and address, so skip users with a session.
+  private String loginUsername() {
+    final int from = sessions.size() < users ? sessions.size() : 0;
+    return "load" + ThreadLocalRandom.current().nextInt(from, users);
+  }
+
+  private HttpRequest loginRequest(String username) {
+    return post(Path.AUTH + "/login", new LoginRequest(username, PASSWORD));
+  }
+
+  private HttpRequest refreshTokenRequest(String refreshToken) {
+    return post(Path.AUTH + "/refresh-token", new RefreshTokenRequest(refreshToken));
+  }
+
+  private HttpRequest post(String path, Object body) {
+    try {
+      return HttpRequest.newBuilder(uri(path))
+          .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+          .POST(BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+          .build();
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private HttpRequest authenticated(String path, String token) {
+    return HttpRequest.newBuilder(uri(path)).header(AuthUtil.AUTH_HEADER, token).GET().build();
+  }
+
+  private URI uri(String path) {
+    return URI.create("http://localhost:" + port + path);
+  }
+
+  private void report(long elapsedInNanos) {
+    log.info(
+        "Completed {} requests in {} ms against {} seeded users and {} sessions",
+        inFlight.size(),
+        TimeUnit.NANOSECONDS.toMillis(elapsedInNanos),
+        users,
+        sessions.size());
+    for (var operation : Operation.values()) {
+      final long[] sorted =
+          latencies.get(operation).stream().mapToLong(Long::longValue).sorted().toArray();
+      if (sorted.length == 0) continue;
+      log.info(
+          "{}: {} requests ({} errors), {} req/s, p50={} ms p95={} ms p99={} ms max={} ms",
+          operation,
+          sorted.length,
+          errors.get(operation).get(),
+          String.format("%.1f", sorted.length / (elapsedInNanos / 1e9)),
+          percentileInMs(sorted, 0.50),
+          percentileInMs(sorted, 0.95),
+          percentileInMs(sorted, 0.99),
+          TimeUnit.NANOSECONDS.toMillis(sorted[sorted.length - 1]));
+    }
+  }
+
+  private long percentileInMs(long[] sorted, double percentile) {
+    final int index = (int) Math.ceil(percentile * sorted.length) - 1;
+    return TimeUnit.NANOSECONDS.toMillis(sorted[Math.max(0, index)]);
+  }
+}
@@ -0,0 +1,151 @@
+package org.bootstrapbugz.api.shared.benchmark;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.mail.Message.RecipientType;
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.icegreen.greenmail.util.GreenMail;
+
+import org.bootstrapbugz.api.auth.request.ForgotPasswordRequest;
+import org.bootstrapbugz.api.auth.request.SignUpRequest;
+import org.bootstrapbugz.api.shared.config.RedisTestConfig;
+import org.bootstrapbugz.api.shared.config.SmtpTestConfig;
+import org.bootstrapbugz.api.shared.constants.Path;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Tag("benchmark")
+@DirtiesContext
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@SpringBootTest(classes = {RedisTestConfig.class, SmtpTestConfig.class})
+@EnabledIfSystemProperty(named = "benchmark.email.rate", matches = "\\d+")
+class EmailThroughputBenchmark {
+  private static final long DELIVERY_TIMEOUT_IN_MS = 60_000;
+
+  @Autowired private MockMvc mockMvc;
+  @Autowired private ObjectMapper objectMapper;
+  @Autowired private GreenMail greenMail;
+
+  private final Map<String, Long> requestedAt = new ConcurrentHashMap<>();
+  private final List<Long> latencies = new ArrayList<>();
+  private final AtomicInteger failedRequests = new AtomicInteger();
+
+  @Test
+  void signUpAndForgotPassword() throws Exception {
+    final int rate = Integer.getInteger("benchmark.email.rate");
+    final int durationInSecs = Integer.getInteger("benchmark.email.duration-in-secs", 10);
+    final int requests = rate * durationInSecs;
+    final ExecutorService clients = Executors.newFixedThreadPool(Math.max(4, rate / 10));
+    final var scheduler = Executors.newSingleThreadScheduledExecutor();
+    final var sent = new AtomicInteger();
+    final long start = System.nanoTime();
+    scheduler.scheduleAtFixedRate(
+        () -> {
+          final int i = sent.getAndIncrement();
+          if (i < requests) clients.execute(() -> signUpAndForgotPassword(i));
+        },
+        0,
+        TimeUnit.SECONDS.toNanos(1) / rate,
+        TimeUnit.NANOSECONDS);
+    awaitDeliveries(requests * 2);
+    final long elapsed = System.nanoTime() - start;
+    scheduler.shutdownNow();
+    clients.shutdown();
+    report(requests * 2, elapsed);
+  }
+
+  private void signUpAndForgotPassword(int i) {
+    final String username = "bench" + i;
+    final String email = username + "@localhost.com";
+    try {
+      requestedAt.put("Confirm Registration:" + email, System.nanoTime());
+      perform(
+          Path.AUTH + "/sign-up",
+          new SignUpRequest("Bench", "Bench", username, email, "qwerty123", "qwerty123"));
+      requestedAt.put("Reset Password:" + email, System.nanoTime());
+      perform(Path.AUTH + "/forgot-password", new ForgotPasswordRequest(email));
+    } catch (Exception e) {
+      failedRequests.incrementAndGet();
+      log.warn("Request for {} failed: {}", username, e.getMessage());
+    }
+  }
+
+  private void perform(String path, Object request) throws Exception {
+    final int status =
+        mockMvc
+            .perform(
+                post(path)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+            .andReturn()
+            .getResponse()
+            .getStatus();
+    if (status >= 300) throw new IllegalStateException(path + " returned " + status);
+  }
+
+  private void awaitDeliveries(int expected) throws MessagingException, InterruptedException {
+    final long deadline = System.currentTimeMillis() + DELIVERY_TIMEOUT_IN_MS;
+    var seen = 0;
+    while (latencies.size() + failedRequests.get() * 2 < expected
+        && System.currentTimeMillis() < deadline) {
+      final MimeMessage[] messages = greenMail.getReceivedMessages();
+      final long now = System.nanoTime();
+      for (; seen < messages.length; seen++) {
+        final String key =
+            messages[seen].getSubject()
+                + ":"
+                + messages[seen].getRecipients(RecipientType.TO)[0].toString();
+        final Long requested = requestedAt.remove(key);
+        if (requested != null) latencies.add(now - requested);
+      }
+      Thread.sleep(5);
+    }
+  }
+
+  private void report(int expected, long elapsedInNanos) {
+    final long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+    log.info(
+        "Delivered {}/{} emails ({} failed requests) in {} ms, {} emails/s",
+        sorted.length,
+        expected,
+        failedRequests.get(),
+        TimeUnit.NANOSECONDS.toMillis(elapsedInNanos),
+        String.format("%.1f", sorted.length / (elapsedInNanos / 1e9)));
+    if (sorted.length == 0) return;
+    log.info(
+        "Delivery latency p50={} ms p95={} ms p99={} ms max={} ms",
+        percentileInMs(sorted, 0.50),
+        percentileInMs(sorted, 0.95),
+        percentileInMs(sorted, 0.99),
+        TimeUnit.NANOSECONDS.toMillis(sorted[sorted.length - 1]));
+  }
+
+  private long percentileInMs(long[] sorted, double percentile) {
+    final int index = (int) Math.ceil(percentile * sorted.length) - 1;
+    return TimeUnit.NANOSECONDS.toMillis(sorted[Math.max(0, index)]);
+  }
+}
@@ -0,0 +1,135 @@
+package org.bootstrapbugz.api.shared.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorFactory;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.Validator;
+
+import org.apache.commons.beanutils.BeanUtils;
+import org.apache.commons.validator.routines.EmailValidator;
+import org.bootstrapbugz.api.auth.request.SignUpRequest;
+import org.bootstrapbugz.api.shared.constants.Regex;
+import org.bootstrapbugz.api.shared.validator.FieldMatch;
+import org.bootstrapbugz.api.shared.validator.impl.EmailExistImpl;
+import org.bootstrapbugz.api.shared.validator.impl.FieldMatchImpl;
+import org.bootstrapbugz.api.shared.validator.impl.UsernameExistImpl;
+import org.bootstrapbugz.api.shared.validator.impl.UsernameOrEmailImpl;
+import org.bootstrapbugz.api.user.service.UserExistenceService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SignUpRequestValidationBenchmark {
+  private final SignUpRequest request =
+      new SignUpRequest("Test", "Test", "test", "test@localhost.com", "qwerty123", "qwerty123");
+  private final FieldMatch fieldMatch = SignUpRequest.class.getAnnotation(FieldMatch.class);
+
+  private Validator validator;
+  private FieldMatchImpl fieldMatchImpl;
+  private UsernameOrEmailImpl usernameOrEmailImpl;
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(SignUpRequestValidationBenchmark.class.getSimpleName())
+                .build())
+        .run();
+  }
+
+  @Setup
+  public void setup() {
+    final var userExistenceService =
+        (UserExistenceService)
+            Proxy.newProxyInstance(
+                UserExistenceService.class.getClassLoader(),
+                new Class<?>[] {UserExistenceService.class},
+                (proxy, method, args) -> false);
+    validator =
+        Validation.byDefaultProvider()
+            .configure()
+            .constraintValidatorFactory(new ExistenceAwareFactory(userExistenceService))
+            .buildValidatorFactory()
+            .getValidator();
+    fieldMatchImpl = new FieldMatchImpl();
+    fieldMatchImpl.initialize(fieldMatch);
+    usernameOrEmailImpl = new UsernameOrEmailImpl();
+  }
+
+  @Benchmark
+  public Set<ConstraintViolation<SignUpRequest>> validateSignUpRequest() {
+    return validator.validate(request);
+  }
+
+  @Benchmark
+  public boolean fieldMatchBefore() {
+    try {
+      return Objects.equals(
+          BeanUtils.getProperty(request, fieldMatch.first()),
+          BeanUtils.getProperty(request, fieldMatch.second()));
+    } catch (Exception e) {
+      return true;
+    }
+  }
+
+  @Benchmark
+  public boolean fieldMatchAfter() {
+    return fieldMatchImpl.isValid(request, null);
+  }
+
+  @Benchmark
+  public boolean usernameOrEmailBefore() {
+    return Pattern.compile(Regex.USERNAME).matcher(request.getEmail()).matches()
+        || EmailValidator.getInstance().isValid(request.getEmail());
+  }
+
+  @Benchmark
+  public boolean usernameOrEmailAfter() {
+    return usernameOrEmailImpl.isValid(request.getEmail(), null);
+  }
+
+  private static class ExistenceAwareFactory implements ConstraintValidatorFactory {
+    private final UserExistenceService userExistenceService;
+
+    private ExistenceAwareFactory(UserExistenceService userExistenceService) {
+      this.userExistenceService = userExistenceService;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends ConstraintValidator<?, ?>> T getInstance(Class<T> key) {
+      if (key == UsernameExistImpl.class) return (T) new UsernameExistImpl(userExistenceService);
+      if (key == EmailExistImpl.class) return (T) new EmailExistImpl(userExistenceService);
+      try {
+        return key.getDeclaredConstructor().newInstance();
+      } catch (ReflectiveOperationException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+
+    @Override
+    public void releaseInstance(ConstraintValidator<?, ?> instance) {}
+  }
+}
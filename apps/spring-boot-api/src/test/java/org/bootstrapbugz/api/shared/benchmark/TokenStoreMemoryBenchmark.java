@@ -0,0 +1,88 @@
+package org.bootstrapbugz.api.shared.benchmark;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.bootstrapbugz.api.auth.redis.model.RefreshToken;
+import org.bootstrapbugz.api.auth.redis.repository.RefreshTokenRepository;
+import org.bootstrapbugz.api.auth.service.impl.TokenStoreMigrationServiceImpl;
+import org.bootstrapbugz.api.auth.util.JwtUtil;
+import org.bootstrapbugz.api.shared.config.RedisTestConfig;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Tag("benchmark")
+@DataRedisTest
+@DirtiesContext
+@ActiveProfiles("test")
+@Import({RedisTestConfig.class, TokenStoreMigrationServiceImpl.class})
+@EnabledIfSystemProperty(named = "benchmark.token-store.tokens", matches = "\\d+")
+class TokenStoreMemoryBenchmark {
+  private static final int EXPIRATION_TIME_IN_SECS = 604800;
+
+  @Autowired private RefreshTokenRepository refreshTokenRepository;
+  @Autowired private TokenStoreMigrationServiceImpl tokenStoreMigrationService;
+  @Autowired private StringRedisTemplate stringRedisTemplate;
+
+  @Test
+  void memoryPerRefreshToken() {
+    final int tokens = Integer.getInteger("benchmark.token-store.tokens");
+    final int users = Integer.getInteger("benchmark.token-store.users", Math.max(1, tokens / 4));
+    stringRedisTemplate.execute(
+        (RedisCallback<Void>)
+            connection -> {
+              connection.setConfig("maxmemory", "0");
+              return null;
+            });
+    refreshTokenRepository.deleteAll();
+    final long baseline = usedMemory();
+
+    // Keyed by the full token, the layout the store used before digest keys.
+    for (var i = 0; i < tokens; i++) {
+      final String username = "load" + (i % users);
+      final String token =
+          JwtUtil.removeTokenTypeFromToken(
+              JwtUtil.createToken(username, EXPIRATION_TIME_IN_SECS, "secret"));
+      refreshTokenRepository.save(
+          new RefreshToken(
+              token, username, "10.0." + i / 250 % 250 + "." + i % 250, EXPIRATION_TIME_IN_SECS));
+    }
+    final long legacy = usedMemory() - baseline;
+
+    final long start = System.nanoTime();
+    final long migrated = tokenStoreMigrationService.migrate();
+    final long elapsed = System.nanoTime() - start;
+    final long digest = usedMemory() - baseline;
+
+    log.info(
+        "{} refresh tokens for {} users: {} bytes/token keyed by token, {} keyed by digest",
+        tokens,
+        users,
+        legacy / tokens,
+        digest / tokens);
+    log.info(
+        "Migrated {} tokens in {} ms, {} MB saved per million tokens",
+        migrated,
+        TimeUnit.NANOSECONDS.toMillis(elapsed),
+        (legacy - digest) * 1_000_000L / tokens / (1024 * 1024));
+    refreshTokenRepository.deleteAll();
+  }
+
+  private long usedMemory() {
+    final Properties info =
+        stringRedisTemplate.execute(
+            (RedisCallback<Properties>) connection -> connection.info("memory"));
+    return Long.parseLong(info.getProperty("used_memory"));
+  }
+}
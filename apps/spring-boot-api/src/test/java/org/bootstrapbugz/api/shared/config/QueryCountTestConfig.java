@@ -0,0 +1,25 @@
+package org.bootstrapbugz.api.shared.config;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.bootstrapbugz.api.shared.util.QueryCounter;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Profile;
+
+@TestConfiguration
+@Profile({"test"})
+public class QueryCountTestConfig {
+  @Bean
+  public QueryCounter queryCounter(ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+    return new QueryCounter(entityManagerFactory);
+  }
+
+  @Bean
+  public HibernatePropertiesCustomizer queryCounterCustomizer(QueryCounter queryCounter) {
+    return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, queryCounter);
+  }
+}
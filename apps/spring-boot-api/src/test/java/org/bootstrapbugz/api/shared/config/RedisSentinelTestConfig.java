@@ -0,0 +1,36 @@
+package org.bootstrapbugz.api.shared.config;
+
+import java.util.List;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Profile;
+
+import redis.embedded.RedisCluster;
+
+@TestConfiguration
+@Profile({"test"})
+public class RedisSentinelTestConfig {
+  public static final String MASTER = "tokens";
+  public static final int SENTINEL_PORT = 26381;
+
+  private RedisCluster redisCluster;
+
+  @PostConstruct
+  public void startRedis() {
+    redisCluster =
+        RedisCluster.builder()
+            .sentinelPorts(List.of(SENTINEL_PORT))
+            .serverPorts(List.of(6381, 6382))
+            .replicationGroup(MASTER, 1)
+            .build();
+    redisCluster.start();
+  }
+
+  @PreDestroy
+  public void stopRedis() {
+    redisCluster.stop();
+  }
+}
@@ -0,0 +1,34 @@
+package org.bootstrapbugz.api.shared.config;
+
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetup;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Profile;
+
+@TestConfiguration
+@Profile({"test"})
+public class SmtpTestConfig {
+  @Value("${spring.mail.host}")
+  private String host;
+
+  @Value("${spring.mail.port}")
+  private int port;
+
+  @Value("${spring.mail.username}")
+  private String username;
+
+  @Value("${spring.mail.password}")
+  private String password;
+
+  @Bean(destroyMethod = "stop")
+  public GreenMail greenMail() {
+    final var greenMail = new GreenMail(new ServerSetup(port, host, ServerSetup.PROTOCOL_SMTP));
+    greenMail.withConfiguration(GreenMailConfiguration.aConfig().withUser(username, password));
+    greenMail.start();
+    return greenMail;
+  }
+}
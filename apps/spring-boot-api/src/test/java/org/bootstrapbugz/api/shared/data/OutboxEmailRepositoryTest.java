@@ -0,0 +1,33 @@
+package org.bootstrapbugz.api.shared.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+
+import org.bootstrapbugz.api.shared.email.model.EmailMessage;
+import org.bootstrapbugz.api.shared.email.model.OutboxEmail;
+import org.bootstrapbugz.api.shared.email.repository.OutboxEmailRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class OutboxEmailRepositoryTest {
+  @Autowired private OutboxEmailRepository outboxEmailRepository;
+
+  @Test
+  void itShouldFindAvailableOutboxEmails() {
+    var first = outboxEmailRepository.save(OutboxEmail.of(new EmailMessage("a@a.com", "a", "a")));
+    var second = outboxEmailRepository.save(OutboxEmail.of(new EmailMessage("b@b.com", "b", "b")));
+    outboxEmailRepository.save(
+        OutboxEmail.of(new EmailMessage("c@c.com", "c", "c"))
+            .setAvailableAt(Instant.now().plusSeconds(60)));
+    var available = outboxEmailRepository.findAvailable(Instant.now(), PageRequest.of(0, 10));
+    assertThat(available).containsExactly(first, second);
+    assertThat(outboxEmailRepository.findAvailable(Instant.now(), PageRequest.of(0, 1)))
+        .containsExactly(first);
+  }
+}
@@ -0,0 +1,89 @@
+package org.bootstrapbugz.api.shared.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.bootstrapbugz.api.shared.datasource.ReadYourWritesTracker;
+import org.bootstrapbugz.api.shared.datasource.ReplicaRoutingDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ReplicaRoutingDataSourceTest {
+  private JdbcTemplate jdbcTemplate;
+  private TransactionTemplate readWriteTransaction;
+  private TransactionTemplate readOnlyTransaction;
+
+  @BeforeEach
+  void setUp() {
+    final DataSource primary = createNode("primary");
+    final DataSource replica = createNode("replica");
+    final var routingDataSource =
+        new ReplicaRoutingDataSource(
+            primary, List.of(replica), new ReadYourWritesTracker(Duration.ofMinutes(1)));
+    routingDataSource.afterPropertiesSet();
+    final var dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+    final var transactionManager = new DataSourceTransactionManager(dataSource);
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    readWriteTransaction = new TransactionTemplate(transactionManager);
+    readOnlyTransaction = new TransactionTemplate(transactionManager);
+    readOnlyTransaction.setReadOnly(true);
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  private DataSource createNode(String name) {
+    final var dataSource =
+        new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "sa");
+    final var nodeJdbcTemplate = new JdbcTemplate(dataSource);
+    nodeJdbcTemplate.execute("DROP TABLE IF EXISTS node");
+    nodeJdbcTemplate.execute("CREATE TABLE node (name VARCHAR NOT NULL)");
+    nodeJdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+    return dataSource;
+  }
+
+  private String findNode(TransactionTemplate transaction) {
+    return transaction.execute(
+        status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+  }
+
+  private void login(String username) {
+    SecurityContextHolder.getContext()
+        .setAuthentication(
+            new UsernamePasswordAuthenticationToken(username, null, Collections.emptyList()));
+  }
+
+  @Test
+  void itShouldRouteReadOnlyTransactionsToReplica() {
+    assertThat(findNode(readOnlyTransaction)).isEqualTo("replica");
+  }
+
+  @Test
+  void itShouldRouteReadWriteTransactionsToPrimary() {
+    assertThat(findNode(readWriteTransaction)).isEqualTo("primary");
+  }
+
+  @Test
+  void itShouldReadOwnWritesFromPrimary() {
+    login("user");
+    findNode(readWriteTransaction);
+    assertThat(findNode(readOnlyTransaction)).isEqualTo("primary");
+    login("admin");
+    assertThat(findNode(readOnlyTransaction)).isEqualTo("replica");
+  }
+}
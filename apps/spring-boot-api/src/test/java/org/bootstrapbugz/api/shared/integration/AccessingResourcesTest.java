@@ -227,4 +227,33 @@ class AccessingResourcesTest {
             .andExpect(status().isForbidden());
     TestUtil.checkErrorMessages(expectedForbiddenResponse, resultActions);
   }
+
+  @Test
+  void healthShouldBePublic() throws Exception {
+    mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+  }
+
+  @Test
+  void prometheusShouldThrowForbidden_userNotLogged() throws Exception {
+    mockMvc.perform(get("/actuator/prometheus")).andExpect(status().isForbidden());
+  }
+
+  @Test
+  void prometheusShouldThrowForbidden_loggedUserIsNotAdmin() throws Exception {
+    var loginResponse =
+        TestUtil.login(mockMvc, objectMapper, new LoginRequest("user", "qwerty123"));
+    mockMvc
+        .perform(
+            get("/actuator/prometheus").header(AuthUtil.AUTH_HEADER, loginResponse.getToken()))
+        .andExpect(status().isForbidden());
+  }
+
+  @Test
+  void itShouldReadMetrics_loggedUserIsAdmin() throws Exception {
+    var loginResponse =
+        TestUtil.login(mockMvc, objectMapper, new LoginRequest("admin", "qwerty123"));
+    mockMvc
+        .perform(get("/actuator/metrics").header(AuthUtil.AUTH_HEADER, loginResponse.getToken()))
+        .andExpect(status().isOk());
+  }
 }
@@ -0,0 +1,76 @@
+package org.bootstrapbugz.api.shared.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import javax.mail.Message.RecipientType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.GreenMailUtil;
+
+import org.bootstrapbugz.api.auth.request.ForgotPasswordRequest;
+import org.bootstrapbugz.api.auth.request.SignUpRequest;
+import org.bootstrapbugz.api.shared.config.RedisTestConfig;
+import org.bootstrapbugz.api.shared.config.SmtpTestConfig;
+import org.bootstrapbugz.api.shared.constants.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@DirtiesContext
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@SpringBootTest(classes = {RedisTestConfig.class, SmtpTestConfig.class})
+class EmailDeliveryTest {
+  @Autowired private MockMvc mockMvc;
+  @Autowired private ObjectMapper objectMapper;
+  @Autowired private GreenMail greenMail;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    greenMail.purgeEmailFromAllMailboxes();
+  }
+
+  @Test
+  void itShouldDeliverConfirmRegistrationEmail() throws Exception {
+    var signUpRequest =
+        new SignUpRequest(
+            "Test", "Test", "delivery", "delivery@localhost.com", "qwerty123", "qwerty123");
+    mockMvc
+        .perform(
+            post(Path.AUTH + "/sign-up")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(signUpRequest)))
+        .andExpect(status().isCreated());
+    assertThat(greenMail.waitForIncomingEmail(5000, 1)).isTrue();
+    var message = greenMail.getReceivedMessages()[0];
+    assertThat(message.getRecipients(RecipientType.TO)[0]).hasToString("delivery@localhost.com");
+    assertThat(message.getSubject()).isEqualTo("Confirm Registration");
+    assertThat(GreenMailUtil.getBody(message)).contains("confirm-registration?token=");
+  }
+
+  @Test
+  void itShouldDeliverResetPasswordEmail() throws Exception {
+    var forgotPasswordRequest = new ForgotPasswordRequest("forUpdate3@localhost.com");
+    mockMvc
+        .perform(
+            post(Path.AUTH + "/forgot-password")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(forgotPasswordRequest)))
+        .andExpect(status().isNoContent());
+    assertThat(greenMail.waitForIncomingEmail(5000, 1)).isTrue();
+    var message = greenMail.getReceivedMessages()[0];
+    assertThat(message.getRecipients(RecipientType.TO)[0])
+        .hasToString("forUpdate3@localhost.com");
+    assertThat(message.getSubject()).isEqualTo("Reset Password");
+    assertThat(GreenMailUtil.getBody(message)).contains("reset-password?token=");
+  }
+}
@@ -0,0 +1,32 @@
+package org.bootstrapbugz.api.shared.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.bootstrapbugz.api.shared.bloom.BloomFilter;
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+  @Test
+  void itShouldContainEveryInsertedValue() {
+    var bloomFilter = new BloomFilter(1000, 0.01);
+    for (var i = 0; i < 1000; i++) bloomFilter.put("user" + i);
+    for (var i = 0; i < 1000; i++) assertThat(bloomFilter.mightContain("user" + i)).isTrue();
+  }
+
+  @Test
+  void itShouldKeepFalsePositivesNearTarget() {
+    var bloomFilter = new BloomFilter(1000, 0.01);
+    for (var i = 0; i < 1000; i++) bloomFilter.put("user" + i);
+    var falsePositives = 0;
+    for (var i = 0; i < 10000; i++) if (bloomFilter.mightContain("other" + i)) falsePositives++;
+    assertThat(falsePositives).isLessThan(300);
+  }
+
+  @Test
+  void itShouldReportFillRatio() {
+    var bloomFilter = new BloomFilter(1000, 0.01);
+    assertThat(bloomFilter.getFillRatio()).isZero();
+    for (var i = 0; i < 1000; i++) bloomFilter.put("user" + i);
+    assertThat(bloomFilter.getFillRatio()).isBetween(0.4, 0.6);
+  }
+}
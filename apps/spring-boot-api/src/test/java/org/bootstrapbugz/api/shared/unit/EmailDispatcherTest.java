@@ -0,0 +1,36 @@
+package org.bootstrapbugz.api.shared.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+import org.bootstrapbugz.api.shared.email.model.EmailMessage;
+import org.bootstrapbugz.api.shared.email.model.OutboxEmail;
+import org.bootstrapbugz.api.shared.email.repository.OutboxEmailRepository;
+import org.bootstrapbugz.api.shared.email.service.impl.EmailDispatcherImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class EmailDispatcherTest {
+  @Mock private OutboxEmailRepository outboxEmailRepository;
+
+  @InjectMocks private EmailDispatcherImpl emailDispatcher;
+
+  @Captor private ArgumentCaptor<OutboxEmail> outboxEmailArgumentCaptor;
+
+  @Test
+  void itShouldWriteEmailToOutbox() {
+    emailDispatcher.dispatch(new EmailMessage("test@test.com", "subject", "body"));
+    verify(outboxEmailRepository).save(outboxEmailArgumentCaptor.capture());
+    var outboxEmail = outboxEmailArgumentCaptor.getValue();
+    assertThat(outboxEmail.toMessage())
+        .isEqualTo(new EmailMessage("test@test.com", "subject", "body"));
+    assertThat(outboxEmail.getAttempts()).isZero();
+    assertThat(outboxEmail.getAvailableAt()).isNotNull();
+  }
+}
@@ -1,26 +1,42 @@
 package org.bootstrapbugz.api.shared.unit;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
+import java.util.Map;
+
+import javax.mail.SendFailedException;
 import javax.mail.Session;
 import javax.mail.internet.MimeMessage;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.bootstrapbugz.api.shared.email.model.EmailMessage;
 import org.bootstrapbugz.api.shared.email.service.impl.EmailServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 
 @ExtendWith(MockitoExtension.class)
 class EmailServiceTest {
   @Mock private JavaMailSender mailSender;
 
-  @InjectMocks private EmailServiceImpl emailService;
+  private EmailServiceImpl emailService;
+
+  @BeforeEach
+  void setUp() {
+    emailService = new EmailServiceImpl(mailSender, new SimpleMeterRegistry());
+  }
 
   @Test
   void itShouldSendHtmlEmail() {
@@ -32,4 +48,21 @@ class EmailServiceTest {
     emailService.sendHtmlEmail(to, subject, body);
     verify(mailSender, times(1)).send(any(MimeMessage.class));
   }
+
+  @Test
+  void itShouldSendHtmlEmailsInOneBatch() {
+    var sent = new EmailMessage("sent@test.com", "subject", "body");
+    var failed = new EmailMessage("failed@test.com", "subject", "body");
+    var sentMimeMessage = new MimeMessage((Session) null);
+    var failedMimeMessage = new MimeMessage((Session) null);
+    when(mailSender.createMimeMessage()).thenReturn(sentMimeMessage, failedMimeMessage);
+    doThrow(
+            new MailSendException(
+                Map.of(failedMimeMessage, new SendFailedException("Invalid address"))))
+        .when(mailSender)
+        .send(sentMimeMessage, failedMimeMessage);
+    var failures = emailService.sendHtmlEmails(List.of(sent, failed));
+    assertThat(failures).containsExactly(entry(1, "Invalid address"));
+    verify(mailSender, times(1)).send(sentMimeMessage, failedMimeMessage);
+  }
 }
@@ -0,0 +1,39 @@
+package org.bootstrapbugz.api.shared.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.bootstrapbugz.api.shared.email.template.EmailTemplate;
+import org.junit.jupiter.api.Test;
+
+class EmailTemplateTest {
+  @Test
+  void itShouldRenderSlotsAndConstants() {
+    var template =
+        EmailTemplate.compile(
+            "<p>Hi $name, welcome to $appName.</p><a href=\"$link\">$appName</a>",
+            Map.of("appName", "App"),
+            "name",
+            "link");
+    assertThat(template.render("user", "localhost/confirm?token=1"))
+        .isEqualTo(
+            "<p>Hi user, welcome to App.</p><a href=\"localhost/confirm?token=1\">App</a>");
+  }
+
+  @Test
+  void itShouldKeepUnknownPlaceholdersAndDollarSigns() {
+    var template = EmailTemplate.compile("$unknown costs $5 and $ more", Map.of(), "name");
+    assertThat(template.render("user")).isEqualTo("$unknown costs $5 and $ more");
+  }
+
+  @Test
+  void itShouldLoadTemplateFromClasspath() {
+    var template =
+        EmailTemplate.load(
+            "templates/email/reset-password.html", Map.of("appName", "App"), "name", "link");
+    var body = template.render("user", "localhost/reset-password?token=1");
+    assertThat(body).contains("user", "localhost/reset-password?token=1", "App");
+    assertThat(body).doesNotContain("$name", "$link", "$appName");
+  }
+}
@@ -0,0 +1,75 @@
+package org.bootstrapbugz.api.shared.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import org.bootstrapbugz.api.shared.error.ErrorDomain;
+import org.bootstrapbugz.api.shared.error.response.ErrorPayloadCache;
+import org.bootstrapbugz.api.shared.message.service.MessageService;
+import org.json.JSONObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ErrorPayloadCacheTest {
+  private final MessageService messageService = mock(MessageService.class);
+  private final ErrorPayloadCache errorPayloadCache =
+      new ErrorPayloadCache(
+          new ObjectMapper().registerModule(new JavaTimeModule()), messageService, 10);
+
+  @BeforeEach
+  void setUp() {
+    when(messageService.isResolvedMessage("Invalid token.")).thenReturn(true);
+  }
+
+  private Map<?, ?> templates() {
+    return (Map<?, ?>) ReflectionTestUtils.getField(errorPayloadCache, "templates");
+  }
+
+  @Test
+  void itShouldSerializeErrorWithCurrentTimestamp() throws Exception {
+    var payload =
+        new JSONObject(
+            new String(
+                errorPayloadCache.get(HttpStatus.FORBIDDEN, ErrorDomain.AUTH, "Invalid token."),
+                StandardCharsets.UTF_8));
+    assertThat(payload.getInt("status")).isEqualTo(403);
+    assertThat(payload.getString("error")).isEqualTo("Forbidden");
+    assertThat(payload.getString("timestamp")).matches("\\d{2}-\\d{2}-\\d{4} \\d{2}:\\d{2}:\\d{2}");
+    assertThat(payload.getJSONArray("errors").getJSONObject(0).getString("message"))
+        .isEqualTo("Invalid token.");
+    assertThat(templates()).hasSize(1);
+  }
+
+  @Test
+  void itShouldNotCacheDynamicMessages() throws Exception {
+    var payload =
+        new JSONObject(
+            new String(
+                errorPayloadCache.get(
+                    HttpStatus.BAD_REQUEST, ErrorDomain.GLOBAL, "Unexpected character 'x'"),
+                StandardCharsets.UTF_8));
+    assertThat(payload.getJSONArray("errors").getJSONObject(0).getString("message"))
+        .isEqualTo("Unexpected character 'x'");
+    assertThat(templates()).isEmpty();
+  }
+
+  @Test
+  void itShouldWritePayloadToResponse() throws Exception {
+    var response = new MockHttpServletResponse();
+    errorPayloadCache.write(response, HttpStatus.UNAUTHORIZED, ErrorDomain.AUTH, "User locked.");
+    assertThat(response.getStatus()).isEqualTo(401);
+    assertThat(response.getContentType()).isEqualTo("application/json");
+    assertThat(new JSONObject(response.getContentAsString()).getString("error"))
+        .isEqualTo("Unauthorized");
+  }
+}
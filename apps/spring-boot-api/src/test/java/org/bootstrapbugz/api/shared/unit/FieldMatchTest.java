@@ -0,0 +1,36 @@
+package org.bootstrapbugz.api.shared.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.bootstrapbugz.api.auth.request.SignUpRequest;
+import org.bootstrapbugz.api.shared.validator.FieldMatch;
+import org.bootstrapbugz.api.shared.validator.impl.FieldMatchImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FieldMatchTest {
+  private final FieldMatchImpl fieldMatch = new FieldMatchImpl();
+
+  @BeforeEach
+  void setUp() {
+    fieldMatch.initialize(SignUpRequest.class.getAnnotation(FieldMatch.class));
+  }
+
+  @Test
+  void itShouldMatchEqualFields() {
+    final var request =
+        new SignUpRequest().setPassword("qwerty123").setConfirmPassword("qwerty123");
+    assertThat(fieldMatch.isValid(request, null)).isTrue();
+  }
+
+  @Test
+  void itShouldNotMatchDifferentFields() {
+    final var request = new SignUpRequest().setPassword("qwerty123").setConfirmPassword("qwerty12");
+    assertThat(fieldMatch.isValid(request, null)).isFalse();
+  }
+
+  @Test
+  void itShouldIgnoreTypesWithoutFields() {
+    assertThat(fieldMatch.isValid(new Object(), null)).isTrue();
+  }
+}
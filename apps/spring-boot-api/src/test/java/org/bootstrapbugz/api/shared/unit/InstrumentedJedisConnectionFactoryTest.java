@@ -0,0 +1,30 @@
+package org.bootstrapbugz.api.shared.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.bootstrapbugz.api.shared.redis.InstrumentedJedisConnectionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.jedis.JedisClientConfiguration;
+
+import redis.clients.jedis.JedisPoolConfig;
+
+class InstrumentedJedisConnectionFactoryTest {
+  @Test
+  void itShouldExportPoolGaugesBeforePoolIsCreated() {
+    var poolConfig = new JedisPoolConfig();
+    poolConfig.setMaxTotal(16);
+    var connectionFactory =
+        new InstrumentedJedisConnectionFactory(
+            new RedisStandaloneConfiguration(),
+            JedisClientConfiguration.builder().usePooling().poolConfig(poolConfig).build());
+    var meterRegistry = new SimpleMeterRegistry();
+    connectionFactory.bindTo(meterRegistry);
+    assertThat(meterRegistry.get("redis.pool.max").gauge().value()).isEqualTo(16);
+    assertThat(meterRegistry.get("redis.pool.active").gauge().value()).isZero();
+    assertThat(meterRegistry.get("redis.pool.pending").gauge().value()).isZero();
+    assertThat(meterRegistry.get("redis.pool.wait.max").timeGauge()).isNotNull();
+  }
+}
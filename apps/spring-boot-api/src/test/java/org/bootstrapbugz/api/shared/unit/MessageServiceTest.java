@@ -1,12 +1,21 @@
 package org.bootstrapbugz.api.shared.unit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.Locale;
+
 import org.bootstrapbugz.api.shared.message.service.impl.MessageServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.MessageSource;
@@ -16,7 +25,21 @@ import org.springframework.context.i18n.LocaleContextHolder;
 class MessageServiceTest {
   @Mock private MessageSource messageSource;
 
-  @InjectMocks private MessageServiceImpl messageService;
+  private MessageServiceImpl messageService;
+
+  @BeforeEach
+  void setUp() {
+    lenient()
+        .when(messageSource.getMessage(anyString(), isNull(), any(Locale.class)))
+        .thenAnswer(invocation -> invocation.getArgument(0) + "." + invocation.getArgument(2));
+    messageService = new MessageServiceImpl(messageSource, new String[] {"en", "de"});
+    clearInvocations(messageSource);
+  }
+
+  @AfterEach
+  void tearDown() {
+    LocaleContextHolder.resetLocaleContext();
+  }
 
   @Test
   void itShouldGetMessage() {
@@ -25,4 +48,26 @@ class MessageServiceTest {
     String actualMessage = messageService.getMessage("{token.invalid}");
     assertThat(actualMessage).isEqualTo("Invalid token.");
   }
+
+  @Test
+  void itShouldGetPreResolvedMessage() {
+    LocaleContextHolder.setLocale(Locale.GERMAN);
+    assertThat(messageService.getMessage("token.invalid")).isEqualTo("token.invalid.de");
+    verifyNoInteractions(messageSource);
+  }
+
+  @Test
+  void itShouldFallBackToLanguageThenDefaultLocale() {
+    LocaleContextHolder.setLocale(Locale.GERMANY);
+    assertThat(messageService.getMessage("token.invalid")).isEqualTo("token.invalid.de");
+    LocaleContextHolder.setLocale(Locale.JAPANESE);
+    assertThat(messageService.getMessage("token.invalid")).isEqualTo("token.invalid.en");
+    verifyNoInteractions(messageSource);
+  }
+
+  @Test
+  void itShouldRecognizeResolvedMessages() {
+    assertThat(messageService.isResolvedMessage("token.invalid.de")).isTrue();
+    assertThat(messageService.isResolvedMessage("Unexpected character 'x'")).isFalse();
+  }
 }
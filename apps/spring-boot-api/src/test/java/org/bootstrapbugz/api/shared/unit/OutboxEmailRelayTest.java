@@ -0,0 +1,132 @@
+package org.bootstrapbugz.api.shared.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.bootstrapbugz.api.shared.email.model.OutboxEmail;
+import org.bootstrapbugz.api.shared.email.redis.model.DeadLetterEmail;
+import org.bootstrapbugz.api.shared.email.redis.repository.DeadLetterEmailRepository;
+import org.bootstrapbugz.api.shared.email.relay.OutboxEmailRelay;
+import org.bootstrapbugz.api.shared.email.repository.OutboxEmailRepository;
+import org.bootstrapbugz.api.shared.email.service.EmailService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxEmailRelayTest {
+  @Mock private OutboxEmailRepository outboxEmailRepository;
+  @Mock private DeadLetterEmailRepository deadLetterEmailRepository;
+  @Mock private EmailService emailService;
+  @Mock private PlatformTransactionManager transactionManager;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private OutboxEmailRelay outboxEmailRelay;
+
+  @Captor private ArgumentCaptor<DeadLetterEmail> deadLetterArgumentCaptor;
+
+  @BeforeEach
+  void setUp() {
+    outboxEmailRelay =
+        new OutboxEmailRelay(
+            outboxEmailRepository,
+            deadLetterEmailRepository,
+            emailService,
+            new TransactionTemplate(transactionManager),
+            Runnable::run,
+            meterRegistry);
+    ReflectionTestUtils.setField(outboxEmailRelay, "batchSize", 100);
+    ReflectionTestUtils.setField(outboxEmailRelay, "workerThreads", 2);
+    ReflectionTestUtils.setField(outboxEmailRelay, "maxAttempts", 3);
+    ReflectionTestUtils.setField(outboxEmailRelay, "initialBackoffInMs", 1000L);
+    ReflectionTestUtils.setField(outboxEmailRelay, "deadLetterTtlInSecs", 604800L);
+  }
+
+  private OutboxEmail outboxEmail(int attempts) {
+    return new OutboxEmail(1L, "test@test.com", "subject", "body", attempts, Instant.now());
+  }
+
+  private void mockSendFailure(OutboxEmail email) {
+    when(emailService.sendHtmlEmails(List.of(email.toMessage())))
+        .thenReturn(Map.of(0, "SMTP unavailable"));
+  }
+
+  @Test
+  void itShouldSendAndDeleteOutboxEmails() {
+    var email = outboxEmail(0);
+    var other = new OutboxEmail(2L, "other@test.com", "subject", "body", 0, Instant.now());
+    when(outboxEmailRepository.findAvailable(any(Instant.class), any(Pageable.class)))
+        .thenReturn(List.of(email, other));
+    when(emailService.sendHtmlEmails(anyList())).thenReturn(Collections.emptyMap());
+    outboxEmailRelay.relay();
+    verify(emailService).sendHtmlEmails(List.of(email.toMessage()));
+    verify(emailService).sendHtmlEmails(List.of(other.toMessage()));
+    verify(outboxEmailRepository).deleteAllInBatch(List.of(email, other));
+  }
+
+  @Test
+  void itShouldOnlyPostponeTheFailedCopyOfIdenticalEmails() {
+    var sent = outboxEmail(0);
+    var failed = new OutboxEmail(2L, "test@test.com", "subject", "body", 0, Instant.now());
+    ReflectionTestUtils.setField(outboxEmailRelay, "workerThreads", 1);
+    when(outboxEmailRepository.findAvailable(any(Instant.class), any(Pageable.class)))
+        .thenReturn(List.of(sent, failed));
+    when(emailService.sendHtmlEmails(List.of(sent.toMessage(), failed.toMessage())))
+        .thenReturn(Map.of(1, "SMTP unavailable"));
+    outboxEmailRelay.relay();
+    verify(outboxEmailRepository).deleteAllInBatch(List.of(sent));
+    assertThat(sent.getAttempts()).isZero();
+    assertThat(failed.getAttempts()).isEqualTo(1);
+  }
+
+  @Test
+  void itShouldPostponeFailedOutboxEmails() {
+    var email = outboxEmail(0);
+    var now = Instant.now();
+    when(outboxEmailRepository.findAvailable(any(Instant.class), any(Pageable.class)))
+        .thenReturn(List.of(email));
+    mockSendFailure(email);
+    outboxEmailRelay.relay();
+    verify(outboxEmailRepository).deleteAllInBatch(Collections.emptyList());
+    verify(deadLetterEmailRepository, never()).save(any(DeadLetterEmail.class));
+    assertThat(email.getAttempts()).isEqualTo(1);
+    assertThat(email.getAvailableAt()).isAfterOrEqualTo(now.plusMillis(1000));
+    assertThat(meterRegistry.counter("email.send.failures").count()).isEqualTo(1);
+  }
+
+  @Test
+  void itShouldDeadLetterOutboxEmailsAfterMaxAttempts() {
+    var email = outboxEmail(2);
+    when(outboxEmailRepository.findAvailable(any(Instant.class), any(Pageable.class)))
+        .thenReturn(List.of(email));
+    mockSendFailure(email);
+    outboxEmailRelay.relay();
+    verify(deadLetterEmailRepository).save(deadLetterArgumentCaptor.capture());
+    verify(outboxEmailRepository).deleteAllInBatch(List.of(email));
+    var deadLetter = deadLetterArgumentCaptor.getValue();
+    assertThat(deadLetter.getTo()).isEqualTo("test@test.com");
+    assertThat(deadLetter.getAttempts()).isEqualTo(3);
+    assertThat(deadLetter.getError()).isEqualTo("SMTP unavailable");
+    assertThat(deadLetter.getTimeToLive()).isEqualTo(604800);
+    assertThat(meterRegistry.counter("email.dead.letters").count()).isEqualTo(1);
+  }
+}
@@ -0,0 +1,67 @@
+package org.bootstrapbugz.api.shared.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Optional;
+
+import org.bootstrapbugz.api.shared.timing.RequestTimer;
+import org.bootstrapbugz.api.shared.timing.ServerTiming;
+import org.bootstrapbugz.api.shared.timing.ServerTimingFilter;
+import org.bootstrapbugz.api.shared.timing.ServerTimingResponseBodyAdvice;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ServerTimingTest {
+  private final RequestTimer requestTimer = new RequestTimer(Optional.empty());
+
+  @AfterEach
+  void tearDown() {
+    ServerTiming.clear();
+  }
+
+  @Test
+  void itShouldRecordPhasesInOrder() {
+    final var serverTiming = ServerTiming.start();
+    requestTimer.time("jwt", () -> {});
+    assertThat(requestTimer.time("user", () -> "user")).isEqualTo("user");
+    serverTiming.markBodyWrite();
+    assertThat(serverTiming.toHeaderValue())
+        .matches(
+            "jwt;dur=\\d+\\.\\d{2}, user;dur=\\d+\\.\\d{2}, handler;dur=\\d+\\.\\d{2}, "
+                + "serialization;dur=\\d+\\.\\d{2}, total;dur=\\d+\\.\\d{2}");
+  }
+
+  @Test
+  void itShouldRecordFailedPhase() {
+    final var serverTiming = ServerTiming.start();
+    assertThatThrownBy(
+            () ->
+                requestTimer.time(
+                    "login",
+                    () -> {
+                      throw new IllegalStateException();
+                    }))
+        .isInstanceOf(IllegalStateException.class);
+    assertThat(serverTiming.toHeaderValue()).startsWith("login;dur=");
+  }
+
+  @Test
+  void itShouldNotRecordWithoutServerTiming() {
+    assertThat(ServerTiming.current()).isNull();
+    assertThat(requestTimer.time("jwt", () -> 1)).isEqualTo(1);
+  }
+
+  @Test
+  void itShouldSetHeaderBeforeBodyWrite() {
+    ServerTiming.start();
+    final var response = new ServletServerHttpResponse(new MockHttpServletResponse());
+    new ServerTimingResponseBodyAdvice()
+        .beforeBodyWrite("body", null, MediaType.APPLICATION_JSON, null, null, response);
+    assertThat(response.getHeaders().getFirst(ServerTimingFilter.HEADER))
+        .matches("handler;dur=\\d+\\.\\d{2}, serialization;dur=\\d+\\.\\d{2}, total;.*");
+  }
+}
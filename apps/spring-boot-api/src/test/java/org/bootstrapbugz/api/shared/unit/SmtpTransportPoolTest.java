@@ -0,0 +1,71 @@
+package org.bootstrapbugz.api.shared.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import javax.mail.MessagingException;
+import javax.mail.Transport;
+
+import org.bootstrapbugz.api.shared.email.transport.SmtpTransportPool;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SmtpTransportPoolTest {
+  @Mock private SmtpTransportPool.Connector connector;
+  @Mock private Transport transport;
+  @Mock private Transport otherTransport;
+
+  @Test
+  void itShouldReuseHealthyConnection() throws MessagingException {
+    var pool = new SmtpTransportPool(connector, 1, 60_000);
+    when(connector.connect()).thenReturn(transport);
+    when(transport.isConnected()).thenReturn(true);
+    pool.release(pool.borrow(), true);
+    assertThat(pool.borrow()).isSameAs(transport);
+    verify(connector, times(1)).connect();
+  }
+
+  @Test
+  void itShouldReplaceDisconnectedConnection() throws MessagingException {
+    var pool = new SmtpTransportPool(connector, 1, 60_000);
+    when(connector.connect()).thenReturn(transport, otherTransport);
+    when(transport.isConnected()).thenReturn(false);
+    pool.release(pool.borrow(), true);
+    assertThat(pool.borrow()).isSameAs(otherTransport);
+    verify(transport, times(1)).close();
+  }
+
+  @Test
+  void itShouldCloseBrokenConnectionOnRelease() throws MessagingException {
+    var pool = new SmtpTransportPool(connector, 1, 60_000);
+    when(connector.connect()).thenReturn(transport);
+    pool.release(pool.borrow(), false);
+    assertThat(pool.getIdleCount()).isZero();
+    verify(transport, times(1)).close();
+  }
+
+  @Test
+  void itShouldEvictIdleConnections() throws MessagingException {
+    var pool = new SmtpTransportPool(connector, 1, 0);
+    when(connector.connect()).thenReturn(transport);
+    pool.release(pool.borrow(), true);
+    pool.evictIdle();
+    assertThat(pool.getIdleCount()).isZero();
+    verify(transport, times(1)).close();
+  }
+
+  @Test
+  void itShouldCloseIdleConnectionsOnClose() throws MessagingException {
+    var pool = new SmtpTransportPool(connector, 2, 60_000);
+    when(connector.connect()).thenReturn(transport);
+    pool.release(pool.borrow(), true);
+    pool.close();
+    assertThat(pool.getIdleCount()).isZero();
+    verify(transport, times(1)).close();
+  }
+}
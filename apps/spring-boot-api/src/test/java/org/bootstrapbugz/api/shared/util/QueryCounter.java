@@ -0,0 +1,43 @@
+package org.bootstrapbugz.api.shared.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.ObjectProvider;
+
+public class QueryCounter implements StatementInspector {
+  private final transient ThreadLocal<List<String>> statements = new ThreadLocal<>();
+  private final transient ObjectProvider<EntityManagerFactory> entityManagerFactory;
+
+  public QueryCounter(ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+    this.entityManagerFactory = entityManagerFactory;
+  }
+
+  @Override
+  public String inspect(String sql) {
+    final List<String> counted = statements.get();
+    if (counted != null) counted.add(sql);
+    return sql;
+  }
+
+  public void reset() {
+    entityManagerFactory.getObject().unwrap(SessionFactory.class).getCache().evictAllRegions();
+    statements.set(new ArrayList<>());
+  }
+
+  public void assertCount(int expected) {
+    final List<String> counted = statements.get();
+    clear();
+    assertThat(counted).as("SQL statements executed on this thread").hasSize(expected);
+  }
+
+  public void clear() {
+    statements.remove();
+  }
+}
@@ -21,6 +21,7 @@ import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
 
 public class TestUtil {
   private TestUtil() {}
@@ -50,6 +51,13 @@ public class TestUtil {
         resultActions.andReturn().getResponse().getContentAsString(), LoginResponse.class);
   }
 
+  public static RequestPostProcessor remoteAddress(String remoteAddress) {
+    return request -> {
+      request.setRemoteAddr(remoteAddress);
+      return request;
+    };
+  }
+
   public static void setAuth(Authentication auth, SecurityContext securityContext, User user) {
     when(securityContext.getAuthentication()).thenReturn(auth);
     SecurityContextHolder.setContext(securityContext);
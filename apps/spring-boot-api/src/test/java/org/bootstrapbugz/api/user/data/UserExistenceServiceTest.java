@@ -0,0 +1,78 @@
+package org.bootstrapbugz.api.user.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.bootstrapbugz.api.user.model.User;
+import org.bootstrapbugz.api.user.repository.UserRepository;
+import org.bootstrapbugz.api.user.service.impl.UserExistenceServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({UserExistenceServiceImpl.class, SimpleMeterRegistry.class})
+class UserExistenceServiceTest {
+  @Autowired private UserExistenceServiceImpl userExistenceService;
+  @Autowired private UserRepository userRepository;
+
+  @BeforeEach
+  void setUp() {
+    userExistenceService.rebuild();
+  }
+
+  @Test
+  void itShouldFindExistingUsernameAndEmail() {
+    assertThat(userExistenceService.existsByUsername("user")).isTrue();
+    assertThat(userExistenceService.existsByEmail("user@localhost.com")).isTrue();
+  }
+
+  @Test
+  void itShouldNotFindUnknownUsernameAndEmail() {
+    assertThat(userExistenceService.existsByUsername("unknown")).isFalse();
+    assertThat(userExistenceService.existsByEmail("unknown@localhost.com")).isFalse();
+  }
+
+  @Test
+  void itShouldFallBackToExactQuery_differentCase() {
+    assertThat(userExistenceService.existsByUsername("USER")).isFalse();
+  }
+
+  @Test
+  void itShouldAddSavedUsers() {
+    userRepository.saveAndFlush(
+        new User()
+            .setFirstName("New")
+            .setLastName("New")
+            .setUsername("new")
+            .setEmail("new@new.com")
+            .setPassword("password"));
+    assertThat(userExistenceService.existsByUsername("new")).isTrue();
+    assertThat(userExistenceService.existsByEmail("new@new.com")).isTrue();
+  }
+
+  @Test
+  void itShouldSizeRebuiltFilterFromUserCount() {
+    var expectedInsertions =
+        ReflectionTestUtils.getField(userExistenceService, "expectedInsertions");
+    ReflectionTestUtils.setField(userExistenceService, "expectedInsertions", 1L);
+    try {
+      userExistenceService.rebuild();
+      assertThat(userExistenceService.getFillRatio()).isPositive().isLessThan(0.6);
+      assertThat(userExistenceService.existsByUsername("unknown")).isFalse();
+    } finally {
+      ReflectionTestUtils.setField(userExistenceService, "expectedInsertions", expectedInsertions);
+    }
+  }
+
+  @Test
+  void itShouldReportFillRatio() {
+    assertThat(userExistenceService.getFillRatio()).isPositive();
+  }
+}
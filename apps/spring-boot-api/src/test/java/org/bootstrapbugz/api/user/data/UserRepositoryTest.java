@@ -3,12 +3,15 @@ package org.bootstrapbugz.api.user.data;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 import org.bootstrapbugz.api.user.model.Role;
 import org.bootstrapbugz.api.user.model.Role.RoleName;
 import org.bootstrapbugz.api.user.model.User;
 import org.bootstrapbugz.api.user.repository.UserRepository;
+import org.bootstrapbugz.api.user.response.RoleResponse;
+import org.bootstrapbugz.api.user.response.UserResponse;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
@@ -29,11 +32,11 @@ class UserRepositoryTest {
           null,
           true,
           true,
-          Collections.singleton(new Role(RoleName.USER)));
+          Role.setOf(RoleName.USER));
 
   @Test
-  void itShouldFindAllUsersWithRoles() {
-    var actualUsers = userRepository.findAllWithRoles();
+  void itShouldFindAllUsers() {
+    var actualUsers = userRepository.findAll();
     assertThat(actualUsers.size()).isEqualTo(7);
     assertThat(actualUsers.get(1))
         .usingRecursiveComparison()
@@ -41,6 +44,27 @@ class UserRepositoryTest {
         .isEqualTo(expectedUser);
   }
 
+  @Test
+  void itShouldFindAllUserResponses() {
+    var actualUserResponses = userRepository.findAllUserResponses();
+    assertThat(actualUserResponses.size()).isEqualTo(7);
+    assertThat(actualUserResponses.get(0).getRoles())
+        .isEqualTo(
+            Set.of(
+                new RoleResponse(RoleName.USER.name()), new RoleResponse(RoleName.ADMIN.name())));
+    assertThat(actualUserResponses.get(1))
+        .isEqualTo(
+            new UserResponse(2L, "User", "User", "user", "user@localhost.com", true, true)
+                .setRoles(Set.of(new RoleResponse(RoleName.USER.name()))));
+  }
+
+  @Test
+  void itShouldFindUserResponseByUsername() {
+    var actualUserResponse = userRepository.findUserResponseByUsername("user").orElseThrow();
+    assertThat(actualUserResponse)
+        .isEqualTo(new UserResponse(2L, "User", "User", "user", "user@localhost.com", true, true));
+  }
+
   @Test
   void itShouldFindAllUsersByUsernameIn() {
     var actualUsers = userRepository.findAllByUsernameIn(Set.of("user", "admin"));
@@ -78,6 +102,51 @@ class UserRepositoryTest {
         .isEqualTo(expectedUser);
   }
 
+  @Test
+  void itShouldFindUserByUsernameOrEmail_email() {
+    var actualUser =
+        userRepository
+            .findByUsernameOrEmail("user@localhost.com", "user@localhost.com")
+            .orElseThrow();
+    assertThat(actualUser)
+        .usingRecursiveComparison()
+        .ignoringFields("password")
+        .isEqualTo(expectedUser);
+  }
+
+  @Test
+  void itShouldBatchInsertUsers() {
+    var users =
+        List.of(
+            new User()
+                .setFirstName("Batch")
+                .setLastName("Batch")
+                .setUsername("batch1")
+                .setEmail("batch1@localhost.com")
+                .setPassword("password")
+                .setRoles(Collections.singleton(Role.of(RoleName.USER))),
+            new User()
+                .setFirstName("Batch")
+                .setLastName("Batch")
+                .setUsername("batch2")
+                .setEmail("batch2@localhost.com")
+                .setPassword("password")
+                .setRoles(Set.of(Role.of(RoleName.USER), Role.of(RoleName.ADMIN))));
+    userRepository.batchInsert(users);
+    var actualUser = userRepository.findByUsername("batch2").orElseThrow();
+    assertThat(actualUser.isActivated()).isFalse();
+    assertThat(actualUser.getRoles())
+        .isEqualTo(Set.of(Role.of(RoleName.USER), Role.of(RoleName.ADMIN)));
+    assertThat(userRepository.existsByUsername("batch1")).isTrue();
+  }
+
+  @Test
+  void itShouldFindExistingUsernamesAndEmails() {
+    assertThat(userRepository.findUsernamesIn(Set.of("user", "unknown"))).isEqualTo(Set.of("user"));
+    assertThat(userRepository.findEmailsIn(Set.of("user@localhost.com", "unknown@localhost.com")))
+        .isEqualTo(Set.of("user@localhost.com"));
+  }
+
   @Test
   void userShouldExistsByEmail() {
     assertThat(userRepository.existsByEmail("user@localhost.com")).isTrue();
@@ -0,0 +1,71 @@
+package org.bootstrapbugz.api.user.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.bootstrapbugz.api.user.model.Role;
+import org.bootstrapbugz.api.user.model.Role.RoleName;
+import org.bootstrapbugz.api.user.model.User;
+import org.bootstrapbugz.api.user.repository.UserRepository;
+import org.bootstrapbugz.api.user.repository.search.InMemoryUserSearchRepository;
+import org.bootstrapbugz.api.user.response.UserResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(InMemoryUserSearchRepository.class)
+class UserSearchRepositoryTest {
+  @Autowired private InMemoryUserSearchRepository userSearchRepository;
+  @Autowired private UserRepository userRepository;
+
+  @Test
+  void itShouldFindUsersByPrefix() {
+    var actualUsers = userSearchRepository.search("forup", 0, 10);
+    assertThat(actualUsers).extracting(UserResponse::getId).containsExactly(5L, 6L, 7L);
+  }
+
+  @Test
+  void itShouldPaginateByKeyset() {
+    assertThat(userSearchRepository.search("forup", 0, 2))
+        .extracting(UserResponse::getId)
+        .containsExactly(5L, 6L);
+    assertThat(userSearchRepository.search("forup", 6, 2))
+        .extracting(UserResponse::getId)
+        .containsExactly(7L);
+  }
+
+  @Test
+  void itShouldFindUsersBySimilarity() {
+    var actualUsers = userSearchRepository.search("lockd", 0, 10);
+    assertThat(actualUsers).extracting(UserResponse::getUsername).containsExactly("locked");
+  }
+
+  @Test
+  void itShouldMatchEmailPrefix() {
+    var actualUsers = userSearchRepository.search("user@loc", 0, 10);
+    assertThat(actualUsers).extracting(UserResponse::getUsername).containsExactly("user");
+  }
+
+  @Test
+  void itShouldFindBatchInsertedUsers() {
+    assertThat(userSearchRepository.search("imported", 0, 10)).isEmpty();
+    userRepository.batchInsert(
+        List.of(
+            new User()
+                .setFirstName("Imported")
+                .setLastName("Imported")
+                .setUsername("imported")
+                .setEmail("imported@localhost.com")
+                .setPassword("password")
+                .setRoles(Collections.singleton(Role.of(RoleName.USER)))));
+    assertThat(userSearchRepository.search("imported", 0, 10))
+        .extracting(UserResponse::getUsername)
+        .containsExactly("imported");
+  }
+}
@@ -11,16 +11,19 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import org.bootstrapbugz.api.auth.request.LoginRequest;
 import org.bootstrapbugz.api.auth.util.AuthUtil;
+import org.bootstrapbugz.api.shared.config.QueryCountTestConfig;
 import org.bootstrapbugz.api.shared.config.RedisTestConfig;
 import org.bootstrapbugz.api.shared.constants.Path;
 import org.bootstrapbugz.api.shared.error.ErrorDomain;
 import org.bootstrapbugz.api.shared.error.response.ErrorResponse;
+import org.bootstrapbugz.api.shared.util.QueryCounter;
 import org.bootstrapbugz.api.shared.util.TestUtil;
 import org.bootstrapbugz.api.user.model.Role.RoleName;
 import org.bootstrapbugz.api.user.request.ChangePasswordRequest;
 import org.bootstrapbugz.api.user.request.UpdateUserRequest;
 import org.bootstrapbugz.api.user.response.RoleResponse;
 import org.bootstrapbugz.api.user.response.UserResponse;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -35,10 +38,16 @@ import org.springframework.test.web.servlet.ResultActions;
 @DirtiesContext
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
-@SpringBootTest(classes = RedisTestConfig.class)
+@SpringBootTest(classes = {RedisTestConfig.class, QueryCountTestConfig.class})
 class UserControllerTest {
   @Autowired private MockMvc mockMvc;
   @Autowired private ObjectMapper objectMapper;
+  @Autowired private QueryCounter queryCounter;
+
+  @AfterEach
+  void tearDown() {
+    queryCounter.clear();
+  }
 
   private ResultActions performFindUserByUsername(String username, String token) throws Exception {
     return mockMvc.perform(
@@ -70,11 +79,13 @@ class UserControllerTest {
     var loginResponse =
         TestUtil.login(mockMvc, objectMapper, new LoginRequest("user", "qwerty123"));
     var expectedUserResponse =
-        new UserResponse(2L, "User", "User", "user", "user@localhost.com", true, true, null);
+        new UserResponse(2L, "User", "User", "user", "user@localhost.com", true, true);
+    queryCounter.reset();
     performFindUserByUsername("user", loginResponse.getToken())
         .andExpect(status().isOk())
         .andExpect(content().contentType(MediaType.APPLICATION_JSON))
         .andExpect(content().string(objectMapper.writeValueAsString(expectedUserResponse)));
+    queryCounter.assertCount(3);
   }
 
   @Test
@@ -82,20 +93,24 @@ class UserControllerTest {
     var loginResponse =
         TestUtil.login(mockMvc, objectMapper, new LoginRequest("user", "qwerty123"));
     var expectedUserResponse =
-        new UserResponse(1L, "Admin", "Admin", "admin", null, true, true, null);
+        new UserResponse(1L, "Admin", "Admin", "admin", null, true, true);
+    queryCounter.reset();
     performFindUserByUsername("admin", loginResponse.getToken())
         .andExpect(status().isOk())
         .andExpect(content().contentType(MediaType.APPLICATION_JSON))
         .andExpect(content().string(objectMapper.writeValueAsString(expectedUserResponse)));
+    queryCounter.assertCount(3);
   }
 
   @Test
   void findUserByUsernameShouldThrowResourceNotFound() throws Exception {
     var loginResponse =
         TestUtil.login(mockMvc, objectMapper, new LoginRequest("user", "qwerty123"));
+    queryCounter.reset();
     var resultActions =
         performFindUserByUsername("unknown", loginResponse.getToken())
             .andExpect(status().isNotFound());
+    queryCounter.assertCount(3);
     var expectedErrorResponse =
         new ErrorResponse(HttpStatus.NOT_FOUND, ErrorDomain.USER, "User not found.");
     TestUtil.checkErrorMessages(expectedErrorResponse, resultActions);
@@ -110,17 +125,13 @@ class UserControllerTest {
     var roleResponses = Collections.singleton(new RoleResponse(RoleName.USER.name()));
     var expectedUserResponse =
         new UserResponse(
-            5L,
-            "Updated",
-            "Updated",
-            "updated",
-            "updated@localhost.com",
-            false,
-            true,
-            roleResponses);
+                5L, "Updated", "Updated", "updated", "updated@localhost.com", false, true)
+            .setRoles(roleResponses);
+    queryCounter.reset();
     performUpdateUser(updateUserRequest, loginResponse.getToken())
         .andExpect(status().isOk())
         .andExpect(content().string(objectMapper.writeValueAsString(expectedUserResponse)));
+    queryCounter.assertCount(4);
   }
 
   @Test
@@ -132,17 +143,13 @@ class UserControllerTest {
     var roleResponses = Collections.singleton(new RoleResponse(RoleName.USER.name()));
     var expectedUserResponse =
         new UserResponse(
-            6L,
-            "Updated",
-            "Updated",
-            "forUpdate2",
-            "forUpdate2@localhost.com",
-            true,
-            true,
-            roleResponses);
+                6L, "Updated", "Updated", "forUpdate2", "forUpdate2@localhost.com", true, true)
+            .setRoles(roleResponses);
+    queryCounter.reset();
     performUpdateUser(updateUserRequest, loginResponse.getToken())
         .andExpect(status().isOk())
         .andExpect(content().string(objectMapper.writeValueAsString(expectedUserResponse)));
+    queryCounter.assertCount(3);
   }
 
   @Test
@@ -151,9 +158,11 @@ class UserControllerTest {
         TestUtil.login(mockMvc, objectMapper, new LoginRequest("forUpdate2", "qwerty123"));
     var updateUserRequest =
         new UpdateUserRequest("Updated", "Updated", "user", "forUpdate2@localhost.com");
+    queryCounter.reset();
     var resultActions =
         performUpdateUser(updateUserRequest, loginResponse.getToken())
             .andExpect(status().isBadRequest());
+    queryCounter.assertCount(3);
     var expectedErrorResponse =
         new ErrorResponse(HttpStatus.BAD_REQUEST, ErrorDomain.USER, "Username already exists.");
     TestUtil.checkErrorMessages(expectedErrorResponse, resultActions);
@@ -165,9 +174,11 @@ class UserControllerTest {
         TestUtil.login(mockMvc, objectMapper, new LoginRequest("forUpdate2", "qwerty123"));
     var updateUserRequest =
         new UpdateUserRequest("Updated", "Updated", "forUpdate2", "user@localhost.com");
+    queryCounter.reset();
     var resultActions =
         performUpdateUser(updateUserRequest, loginResponse.getToken())
             .andExpect(status().isBadRequest());
+    queryCounter.assertCount(3);
     var expectedErrorResponse =
         new ErrorResponse(HttpStatus.BAD_REQUEST, ErrorDomain.USER, "Email already exists.");
     TestUtil.checkErrorMessages(expectedErrorResponse, resultActions);
@@ -179,9 +190,11 @@ class UserControllerTest {
         TestUtil.login(mockMvc, objectMapper, new LoginRequest("forUpdate2", "qwerty123"));
     var updateUserRequest =
         new UpdateUserRequest("Invalid123", "Invalid123", "invalid#$%", "invalid");
+    queryCounter.reset();
     var resultActions =
         performUpdateUser(updateUserRequest, loginResponse.getToken())
             .andExpect(status().isBadRequest());
+    queryCounter.assertCount(2);
     var expectedErrorResponse = new ErrorResponse(HttpStatus.BAD_REQUEST);
     expectedErrorResponse.addError("firstName", "Invalid first name.");
     expectedErrorResponse.addError("lastName", "Invalid last name.");
@@ -195,8 +208,10 @@ class UserControllerTest {
     var loginResponse =
         TestUtil.login(mockMvc, objectMapper, new LoginRequest("forUpdate3", "qwerty123"));
     var changePasswordRequest = new ChangePasswordRequest("qwerty123", "qwerty1234", "qwerty1234");
+    queryCounter.reset();
     performChangePassword(changePasswordRequest, loginResponse.getToken())
         .andExpect(status().isNoContent());
+    queryCounter.assertCount(3);
   }
 
   @Test
@@ -205,9 +220,11 @@ class UserControllerTest {
         TestUtil.login(mockMvc, objectMapper, new LoginRequest("forUpdate2", "qwerty123"));
     var changePasswordRequest =
         new ChangePasswordRequest("qwerty12345", "qwerty1234", "qwerty1234");
+    queryCounter.reset();
     var resultActions =
         performChangePassword(changePasswordRequest, loginResponse.getToken())
             .andExpect(status().isBadRequest());
+    queryCounter.assertCount(2);
     var expectedErrorResponse =
         new ErrorResponse(HttpStatus.BAD_REQUEST, ErrorDomain.USER, "Wrong old password.");
     TestUtil.checkErrorMessages(expectedErrorResponse, resultActions);
@@ -218,9 +235,11 @@ class UserControllerTest {
     var loginResponse =
         TestUtil.login(mockMvc, objectMapper, new LoginRequest("forUpdate2", "qwerty123"));
     var changePasswordRequest = new ChangePasswordRequest("qwerty123", "qwerty1234", "qwerty12345");
+    queryCounter.reset();
     var resultActions =
         performChangePassword(changePasswordRequest, loginResponse.getToken())
             .andExpect(status().isBadRequest());
+    queryCounter.assertCount(2);
     var expectedErrorResponse = new ErrorResponse(HttpStatus.BAD_REQUEST);
     expectedErrorResponse.addError("newPassword", "Passwords do not match.");
     TestUtil.checkErrorMessages(expectedErrorResponse, resultActions);
@@ -231,9 +250,11 @@ class UserControllerTest {
     var loginResponse =
         TestUtil.login(mockMvc, objectMapper, new LoginRequest("forUpdate2", "qwerty123"));
     var changePasswordRequest = new ChangePasswordRequest("invalid", "invalid", "invalid");
+    queryCounter.reset();
     var resultActions =
         performChangePassword(changePasswordRequest, loginResponse.getToken())
             .andExpect(status().isBadRequest());
+    queryCounter.assertCount(2);
     var expectedErrorResponse = new ErrorResponse(HttpStatus.BAD_REQUEST);
     expectedErrorResponse.addError("newPassword", "Invalid password.");
     expectedErrorResponse.addError("oldPassword", "Invalid password.");
@@ -0,0 +1,87 @@
+package org.bootstrapbugz.api.user.repository.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import javax.sql.DataSource;
+
+import org.bootstrapbugz.api.user.response.UserResponse;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Stands in for the pg_trgm search on H2. The index is rebuilt from the table on every search so
+ * rows written through JPA and through JDBC batch inserts are both visible.
+ */
+@Repository
+@Profile("test")
+public class InMemoryUserSearchRepository implements UserSearchRepository {
+  private final JdbcTemplate jdbcTemplate;
+  private final UserResponseRowMapper rowMapper = new UserResponseRowMapper();
+
+  public InMemoryUserSearchRepository(DataSource dataSource) {
+    this.jdbcTemplate = new JdbcTemplate(dataSource);
+  }
+
+  @Override
+  public List<UserResponse> search(String query, long afterId, int limit) {
+    final TreeMap<Long, IndexedUser> users = new TreeMap<>();
+    final Map<String, Set<Long>> postings = new HashMap<>();
+    for (var response :
+        jdbcTemplate.query("SELECT " + UserResponseRowMapper.COLUMNS + " FROM users", rowMapper)) {
+      final var user = new IndexedUser(response);
+      users.put(response.getId(), user);
+      for (var fieldTrigrams : user.trigrams)
+        for (var trigram : fieldTrigrams)
+          postings.computeIfAbsent(trigram, key -> new TreeSet<>()).add(response.getId());
+    }
+
+    final String normalized = query.toLowerCase();
+    final Set<String> queryTrigrams = Trigrams.of(normalized);
+    final NavigableSet<Long> candidates =
+        queryTrigrams.isEmpty() ? users.navigableKeySet() : new TreeSet<>();
+    for (var trigram : queryTrigrams) candidates.addAll(postings.getOrDefault(trigram, Set.of()));
+
+    final List<UserResponse> results = new ArrayList<>(limit);
+    for (var id : candidates.tailSet(afterId, false)) {
+      final var user = users.get(id);
+      if (user.matches(normalized, queryTrigrams)) results.add(user.response);
+      if (results.size() == limit) break;
+    }
+    return results;
+  }
+
+  private static final class IndexedUser {
+    private final UserResponse response;
+    private final String[] fields;
+    private final List<Set<String>> trigrams = new ArrayList<>();
+
+    private IndexedUser(UserResponse response) {
+      this.response = response;
+      this.fields =
+          new String[] {
+            response.getUsername().toLowerCase(),
+            response.getEmail().toLowerCase(),
+            response.getFirstName().toLowerCase(),
+            response.getLastName().toLowerCase()
+          };
+      for (var field : fields) trigrams.add(Trigrams.of(field));
+    }
+
+    private boolean matches(String query, Set<String> queryTrigrams) {
+      for (var i = 0; i < fields.length; i++) {
+        if (fields[i].startsWith(query)) return true;
+        if (Trigrams.similarity(trigrams.get(i), queryTrigrams) >= Trigrams.SIMILARITY_THRESHOLD)
+          return true;
+      }
+      return false;
+    }
+  }
+}
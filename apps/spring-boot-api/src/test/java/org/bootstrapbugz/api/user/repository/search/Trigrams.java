@@ -0,0 +1,27 @@
+package org.bootstrapbugz.api.user.repository.search;
+
+import java.util.HashSet;
+import java.util.Set;
+
+final class Trigrams {
+  static final double SIMILARITY_THRESHOLD = 0.3;
+
+  private Trigrams() {}
+
+  static Set<String> of(String text) {
+    final Set<String> trigrams = new HashSet<>();
+    for (var word : text.toLowerCase().split("[^\\p{L}\\p{N}]+")) {
+      if (word.isEmpty()) continue;
+      final var padded = "  " + word + " ";
+      for (var i = 0; i + 3 <= padded.length(); i++) trigrams.add(padded.substring(i, i + 3));
+    }
+    return trigrams;
+  }
+
+  static double similarity(Set<String> first, Set<String> second) {
+    if (first.isEmpty() || second.isEmpty()) return 0;
+    var shared = 0;
+    for (var trigram : first) if (second.contains(trigram)) shared++;
+    return (double) shared / (first.size() + second.size() - shared);
+  }
+}
@@ -25,6 +25,7 @@ import org.bootstrapbugz.api.user.repository.UserRepository;
 import org.bootstrapbugz.api.user.request.ChangePasswordRequest;
 import org.bootstrapbugz.api.user.request.UpdateUserRequest;
 import org.bootstrapbugz.api.user.response.UserResponse;
+import org.bootstrapbugz.api.user.service.UserExistenceService;
 import org.bootstrapbugz.api.user.service.impl.UserServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
@@ -50,6 +51,7 @@ class UserServiceTest {
   @Spy private BCryptPasswordEncoder bCryptPasswordEncoder;
   @Mock private ApplicationEventPublisher eventPublisher;
   @Mock private JwtService jwtService;
+  @Mock private UserExistenceService userExistenceService;
   @Mock private Authentication auth;
   @Mock private SecurityContext securityContext;
 
@@ -66,7 +68,7 @@ class UserServiceTest {
     if (info.getTags().contains("skipBeforeEach")) return;
 
     password = bCryptPasswordEncoder.encode("qwerty123");
-    roles = Collections.singleton(new Role(RoleName.USER));
+    roles = Collections.singleton(Role.of(RoleName.USER));
     user = new User(1L, "Test", "Test", "test", "test@test.com", password, true, true, roles);
     TestUtil.setAuth(auth, securityContext, user);
   }
@@ -74,19 +76,23 @@ class UserServiceTest {
   @Test
   void itShouldFindUserByUsername_showEmail() {
     var expectedUserResponse =
-        new UserResponse(1L, "Test", "Test", "test", "test@test.com", true, true, null);
-    when(userRepository.findByUsername("test")).thenReturn(Optional.of(user));
+        new UserResponse(1L, "Test", "Test", "test", "test@test.com", true, true);
+    when(userRepository.findUserResponseByUsername("test"))
+        .thenReturn(
+            Optional.of(new UserResponse(1L, "Test", "Test", "test", "test@test.com", true, true)));
     var actualUserResponse = userService.findByUsername("test");
     assertThat(actualUserResponse).isEqualTo(expectedUserResponse);
   }
 
   @Test
   void itShouldFindUserByUsername_hideEmail() {
-    var expectedUserResponse = new UserResponse(1L, "Test", "Test", "test", null, true, true, null);
+    var expectedUserResponse = new UserResponse(1L, "Test", "Test", "test", null, true, true);
     var loggedUser =
         new User(2L, "User", "User", "user", "user@user.com", password, true, true, roles);
     TestUtil.setAuth(auth, securityContext, loggedUser);
-    when(userRepository.findByUsername("test")).thenReturn(Optional.of(user));
+    when(userRepository.findUserResponseByUsername("test"))
+        .thenReturn(
+            Optional.of(new UserResponse(1L, "Test", "Test", "test", "test@test.com", true, true)));
     var actualUserResponse = userService.findByUsername("test");
     assertThat(actualUserResponse).isEqualTo(expectedUserResponse);
   }
@@ -105,8 +111,8 @@ class UserServiceTest {
     var expectedUser =
         new User(1L, "User", "User", "user", "user@user.com", password, false, true, roles);
     var updateUserRequest = new UpdateUserRequest("User", "User", "user", "user@user.com");
-    when(userRepository.existsByUsername(updateUserRequest.getUsername())).thenReturn(false);
-    when(userRepository.existsByEmail(updateUserRequest.getEmail())).thenReturn(false);
+    when(userExistenceService.existsByUsername(updateUserRequest.getUsername())).thenReturn(false);
+    when(userExistenceService.existsByEmail(updateUserRequest.getEmail())).thenReturn(false);
     when(jwtService.createToken(updateUserRequest.getUsername(), JwtPurpose.CONFIRM_REGISTRATION))
         .thenReturn(JwtUtil.TOKEN_TYPE + "token");
     userService.update(updateUserRequest);
@@ -127,7 +133,7 @@ class UserServiceTest {
   @Test
   void updateUserShouldThrowBadRequest_usernameExists() {
     var updateUserRequest = new UpdateUserRequest("User", "User", "user", "user@user.com");
-    when(userRepository.existsByUsername(updateUserRequest.getUsername())).thenReturn(true);
+    when(userExistenceService.existsByUsername(updateUserRequest.getUsername())).thenReturn(true);
     when(messageService.getMessage("username.exists")).thenReturn("Username already exists.");
     assertThatThrownBy(() -> userService.update(updateUserRequest))
         .isInstanceOf(BadRequestException.class)
@@ -137,8 +143,8 @@ class UserServiceTest {
   @Test
   void updateUserShouldThrowBadRequest_emailExists() {
     var updateUserRequest = new UpdateUserRequest("User", "User", "user", "user@user.com");
-    when(userRepository.existsByUsername(updateUserRequest.getUsername())).thenReturn(false);
-    when(userRepository.existsByEmail(updateUserRequest.getEmail())).thenReturn(true);
+    when(userExistenceService.existsByUsername(updateUserRequest.getUsername())).thenReturn(false);
+    when(userExistenceService.existsByEmail(updateUserRequest.getEmail())).thenReturn(true);
     when(messageService.getMessage("email.exists")).thenReturn("Email already exists.");
     assertThatThrownBy(() -> userService.update(updateUserRequest))
         .isInstanceOf(BadRequestException.class)